@@ -0,0 +1,84 @@
+package com.example.starhub.performance;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PreparedStatement 측정 계층의 호출 비용 비교 (호출당 ns)
+ * - raw: 측정 없이 드라이버 구현을 바로 호출
+ * - legacyProxy: 개선 전 방식 (java.lang.reflect.Proxy + Method.invoke + 메서드 이름 비교)
+ * - wrapper: MonitoredPreparedStatement
+ * 드라이버는 즉시 반환하는 스텁이므로 결과 차이가 곧 측정 계층의 오버헤드입니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JdbcWrapperBenchmark {
+
+    private static final String SQL = "select * from meeting where id = ?";
+
+    private PreparedStatement raw;
+    private PreparedStatement legacyProxy;
+    private PreparedStatement wrapper;
+    private long executed;
+
+    @Setup
+    public void setUp() {
+        raw = stubStatement();
+        QueryExecutionListener listener = (sql, queryTime) -> executed += queryTime;
+        legacyProxy = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new LegacyHandler(raw, listener)
+        );
+        wrapper = new MonitoredPreparedStatement(raw, SQL, null, listener);
+    }
+
+    @Benchmark
+    public int raw() throws SQLException {
+        raw.setLong(1, 42L);
+        return raw.executeUpdate();
+    }
+
+    @Benchmark
+    public int legacyProxy() throws SQLException {
+        legacyProxy.setLong(1, 42L);
+        return legacyProxy.executeUpdate();
+    }
+
+    @Benchmark
+    public int wrapper() throws SQLException {
+        wrapper.setLong(1, 42L);
+        return wrapper.executeUpdate();
+    }
+
+    private static PreparedStatement stubStatement() {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> method.getReturnType() == int.class ? 1 : null
+        );
+    }
+
+    private record LegacyHandler(Object preparedStatement, QueryExecutionListener listener) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().contains("execute")) {
+                long startTime = System.nanoTime();
+                Object returnValue = method.invoke(preparedStatement, args);
+                listener.onQueryExecuted(SQL, System.nanoTime() - startTime);
+                return returnValue;
+            }
+            return method.invoke(preparedStatement, args);
+        }
+    }
+}
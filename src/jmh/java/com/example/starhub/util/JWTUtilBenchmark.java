@@ -0,0 +1,84 @@
+package com.example.starhub.util;
+
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 처리량 비교 (초당 작업 수)
+ * - legacy*: 개선 전 JWTUtil 방식 (호출마다 파서 생성, 요청당 4회 파싱, 알고리즘 추론 서명)
+ * - 나머지: 현재 JWTUtil (미리 만든 파서/서명 알고리즘, 클레임 캐시)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "starhub-benchmark-secret-key-0123456789-abcdefghij";
+    private static final long EXPIRED_MS = 600_000L;
+
+    private SecretKey secretKey;
+    private JWTUtil cachedJwtUtil;
+    private JWTUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        cachedJwtUtil = new JWTUtil(SECRET, 10_000);
+        uncachedJwtUtil = new JWTUtil(SECRET, 0); // 캐시 크기 0 -> 매번 파싱
+        token = cachedJwtUtil.createJwt("access", "benchmarkUser", "ROLE_USER", EXPIRED_MS);
+    }
+
+    @Benchmark
+    public String legacyIssue() {
+        return Jwts.builder()
+                .claim("category", "access")
+                .claim("username", "benchmarkUser")
+                .claim("role", "ROLE_USER")
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + EXPIRED_MS))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    @Benchmark
+    public String issue() {
+        return cachedJwtUtil.createJwt("access", "benchmarkUser", "ROLE_USER", EXPIRED_MS);
+    }
+
+    /**
+     * 개선 전 JWTFilter: getUsername, isExpired, getCategory, getRole 각각 파서 생성 + 파싱
+     */
+    @Benchmark
+    public void legacyVerify(Blackhole blackhole) {
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date()));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class));
+        blackhole.consume(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class));
+    }
+
+    /**
+     * 미리 만든 파서로 한 번 파싱 (캐시 미스 경로)
+     */
+    @Benchmark
+    public JwtClaims verifyUncached() {
+        return uncachedJwtUtil.parse(token);
+    }
+
+    /**
+     * 클레임 캐시 적중 경로
+     */
+    @Benchmark
+    public JwtClaims verifyCached() {
+        return cachedJwtUtil.parse(token);
+    }
+}
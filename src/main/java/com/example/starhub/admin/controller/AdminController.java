@@ -2,16 +2,16 @@ package com.example.starhub.admin.controller;
 
 import com.example.starhub.admin.service.AdminService;
 import com.example.starhub.dto.request.CreateTechStackRequestDto;
+import com.example.starhub.dto.response.PopularLeaderboardVerifyResponseDto;
 import com.example.starhub.response.code.ResponseCode;
 import com.example.starhub.response.dto.ResponseDto;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -30,4 +30,66 @@ public class AdminController {
                 .status(ResponseCode.SUCCESS_CREATE_TECH_STACK.getStatus().value())
                 .body(new ResponseDto<>(ResponseCode.SUCCESS_CREATE_TECH_STACK, null));
     }
+
+    /**
+     * 인기글 순위표 재구성하기
+     */
+    @Hidden
+    @PostMapping("/api/v1/admin/popular/rebuild")
+    public ResponseEntity<ResponseDto> rebuildPopularLeaderboard() {
+        adminService.rebuildPopularLeaderboard();
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_REBUILD_POPULAR_LEADERBOARD.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_REBUILD_POPULAR_LEADERBOARD, null));
+    }
+
+    /**
+     * 인기글 순위표 검증하기
+     * - Redis 순위표와 JPQL 인기글 쿼리 결과 비교
+     */
+    @Hidden
+    @GetMapping("/api/v1/admin/popular/verify")
+    public ResponseEntity<ResponseDto<List<PopularLeaderboardVerifyResponseDto>>> verifyPopularLeaderboard(
+            @RequestParam(defaultValue = "3") int limit) {
+        List<PopularLeaderboardVerifyResponseDto> res = adminService.verifyPopularLeaderboard(limit);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_VERIFY_POPULAR_LEADERBOARD.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_VERIFY_POPULAR_LEADERBOARD, res));
+    }
+
+    /**
+     * 모임 검색 인덱스 재구성하기
+     */
+    @Hidden
+    @PostMapping("/api/v1/admin/search/rebuild")
+    public ResponseEntity<ResponseDto> rebuildMeetingSearchIndex() throws InterruptedException {
+        adminService.rebuildMeetingSearchIndex();
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_REBUILD_MEETING_SEARCH_INDEX.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_REBUILD_MEETING_SEARCH_INDEX, null));
+    }
+
+    /**
+     * 모임 위치 격자 칸 번호 채우기
+     */
+    @Hidden
+    @PostMapping("/api/v1/admin/geo/backfill")
+    public ResponseEntity<ResponseDto<Integer>> backfillMeetingGeoCells() {
+        int res = adminService.backfillMeetingGeoCells();
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_BACKFILL_MEETING_GEO_CELLS.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_BACKFILL_MEETING_GEO_CELLS, res));
+    }
+
+    /**
+     * 모임 좋아요 수 채우기
+     */
+    @Hidden
+    @PostMapping("/api/v1/admin/likes/backfill")
+    public ResponseEntity<ResponseDto<Integer>> backfillMeetingLikeCounts() {
+        int res = adminService.backfillMeetingLikeCounts();
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_BACKFILL_MEETING_LIKE_COUNTS.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_BACKFILL_MEETING_LIKE_COUNTS, res));
+    }
 }
@@ -1,10 +1,17 @@
 package com.example.starhub.admin.service;
 
 import com.example.starhub.dto.request.TechStackDto;
+import com.example.starhub.dto.response.PopularLeaderboardVerifyResponseDto;
 import com.example.starhub.entity.TechStackEntity;
+import com.example.starhub.event.TechStackChangedEvent;
+import com.example.starhub.repository.MeetingRepository;
 import com.example.starhub.repository.TechStackRepository;
+import com.example.starhub.service.leaderboard.PopularMeetingLeaderboard;
+import com.example.starhub.service.search.MeetingSearchIndexer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,6 +23,10 @@ import java.util.stream.Collectors;
 public class AdminService {
 
     private final TechStackRepository techStackRepository;
+    private final MeetingRepository meetingRepository;
+    private final PopularMeetingLeaderboard popularMeetingLeaderboard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeetingSearchIndexer meetingSearchIndexer;
 
     /**
      * 기술 스택 생성하기
@@ -29,6 +40,58 @@ public class AdminService {
                 .collect(Collectors.toList());
 
         techStackRepository.saveAll(techStackEntities); // 여러 개 한 번에 저장
+
+        eventPublisher.publishEvent(new TechStackChangedEvent()); // 커밋 후 기술 스택 사전 갱신
+    }
+
+    /**
+     * 인기글 순위표 재구성하기
+     * - Redis 순위표를 DB 기준으로 다시 만듦 (콜드 스타트, 장애 복구 용도)
+     */
+    @Transactional(readOnly = true)
+    public void rebuildPopularLeaderboard() {
+        popularMeetingLeaderboard.rebuild();
+    }
+
+    /**
+     * 인기글 순위표 검증하기
+     * - Redis 순위표와 JPQL 인기글 쿼리 결과를 비교
+     *
+     * @param limit 비교할 순위 개수
+     * @return 순위 종류별 비교 결과
+     */
+    @Transactional(readOnly = true)
+    public List<PopularLeaderboardVerifyResponseDto> verifyPopularLeaderboard(int limit) {
+        return popularMeetingLeaderboard.verify(limit);
+    }
+
+    /**
+     * 모임 검색 인덱스 재구성하기
+     * - 인덱서가 스레드별로 자체 세션을 사용하므로 트랜잭션 없이 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildMeetingSearchIndex() throws InterruptedException {
+        meetingSearchIndexer.rebuild();
+    }
+
+    /**
+     * 모임 위치 격자 칸 번호 채우기
+     * - 격자 칸 컬럼 추가 이전에 생성된 모임의 칸 번호를 계산 (근처 모임 검색 대상에 포함)
+     *
+     * @return 칸 번호를 채운 모임 수
+     */
+    public int backfillMeetingGeoCells() {
+        return meetingRepository.backfillGeoCells();
+    }
+
+    /**
+     * 모임 좋아요 수 채우기
+     * - 좋아요 수 컬럼 추가 이전에 생성된 모임의 좋아요 수를 좋아요 테이블 기준으로 다시 계산
+     *
+     * @return 좋아요 수를 다시 계산한 모임 수
+     */
+    public int backfillMeetingLikeCounts() {
+        return meetingRepository.backfillLikeCounts();
     }
 
     /**
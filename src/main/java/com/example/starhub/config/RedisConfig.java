@@ -1,5 +1,7 @@
 package com.example.starhub.config;
 
+import com.example.starhub.service.cache.TechStackDictionaryRefreshListener;
+import com.example.starhub.service.facet.MeetingFacetIndexUpdater;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -7,6 +9,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -49,4 +53,15 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(TechStackDictionaryRefreshListener techStackDictionaryRefreshListener,
+                                                                       MeetingFacetIndexUpdater meetingFacetIndexUpdater) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(techStackDictionaryRefreshListener, new ChannelTopic(TechStackDictionaryRefreshListener.CHANNEL));
+        container.addMessageListener(meetingFacetIndexUpdater, new ChannelTopic(MeetingFacetIndexUpdater.CHANNEL));
+
+        return container;
+    }
 }
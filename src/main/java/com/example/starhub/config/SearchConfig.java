@@ -0,0 +1,27 @@
+package com.example.starhub.config;
+
+import com.example.starhub.service.search.MeetingSearchAnalysisConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모임 검색(Hibernate Search) 설정
+ * - 인덱스는 인스턴스 로컬 디스크의 Lucene 인덱스에 저장합니다.
+ * - spring.jpa.properties로 같은 키를 지정하면 그 값을 우선합니다.
+ */
+@Configuration
+public class SearchConfig {
+
+    @Value("${starhub.search.index-directory:search-index}")
+    private String indexDirectory;
+
+    @Bean
+    public HibernatePropertiesCustomizer searchPropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.search.backend.directory.root", indexDirectory);
+            properties.putIfAbsent("hibernate.search.backend.analysis.configurer", MeetingSearchAnalysisConfigurer.class.getName());
+        };
+    }
+}
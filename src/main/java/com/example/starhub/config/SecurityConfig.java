@@ -86,12 +86,15 @@ public class SecurityConfig {
                         // 공개 접근 경로
                         .antMatchers("/api/v1/register", "/api/v1/users/check", "/api/v1/login", "/api/v1/reissue").permitAll()
                         .antMatchers("/swagger-ui/**", "/v3/api-docs/**", "/starhub-api/**").permitAll()
-                        .antMatchers(HttpMethod.GET, "/api/v1/meetings", "/api/v1/meetings/{meetingId}").permitAll()
+                        .antMatchers(HttpMethod.GET, "/api/v1/meetings", "/api/v1/meetings/{meetingId}", "/api/v1/meetings/search", "/api/v1/meetings/nearby", "/api/v1/meetings/facets").permitAll()
                         .antMatchers(HttpMethod.GET, "/api/v1/techStacks").permitAll()
                         .antMatchers(HttpMethod.GET, "/api/v1/meetings/popular/projects", "/api/v1/meetings/popular/studies", "/api/v1/meetings/popular/expiring").permitAll()
 
                         // 관리자만 접근 가능 경로
                         .antMatchers(HttpMethod.POST, "/api/v1/techStacks").hasRole("ADMIN")
+                        .antMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                        // 내부 진단 경로 (지표, 느린 요청 SQL 타임라인)
+                        .antMatchers("/internal/**").hasRole("ADMIN")
 
                         // 모든 인증된 사용자
                         .anyRequest().authenticated()
@@ -3,17 +3,21 @@ package com.example.starhub.controller;
 import com.example.starhub.controller.docs.MeetingControllerDocs;
 import com.example.starhub.dto.request.ConfirmMeetingRequestDto;
 import com.example.starhub.dto.request.CreateMeetingRequestDto;
+import com.example.starhub.dto.request.MeetingFilterRequestDto;
 import com.example.starhub.dto.request.UpdateMeetingRequestDto;
 import com.example.starhub.dto.response.ConfirmMeetingResponseDto;
+import com.example.starhub.dto.response.CursorResponseDto;
 import com.example.starhub.dto.response.MeetingDetailResponseDto;
 import com.example.starhub.dto.response.MeetingResponseDto;
 import com.example.starhub.dto.response.MeetingSummaryResponseDto;
+import com.example.starhub.dto.response.NearbyMeetingResponseDto;
 import com.example.starhub.dto.security.CustomUserDetails;
 import com.example.starhub.response.code.ResponseCode;
 import com.example.starhub.response.dto.ResponseDto;
 import com.example.starhub.service.MeetingService;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -49,17 +53,52 @@ public class MeetingController implements MeetingControllerDocs {
     @GetMapping
     public ResponseEntity<ResponseDto> getMeetingList(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @ParameterObject MeetingFilterRequestDto meetingFilterRequestDto,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "4") int size) {
 
         // 익명 사용자일 경우 null 전달, 인증된 사용자일 경우 customUserDetails 전달
         String username = customUserDetails != null ? customUserDetails.getUsername() : null;
-        Page<MeetingSummaryResponseDto> res = meetingService.getMeetingList(username, page, size);
+        Page<MeetingSummaryResponseDto> res = meetingService.getMeetingList(username, meetingFilterRequestDto, page, size);
         return ResponseEntity
                 .status(ResponseCode.SUCCESS_GET_MEETING_LIST.getStatus().value())
                 .body(new ResponseDto<>(ResponseCode.SUCCESS_GET_MEETING_LIST, res));
     }
 
+    /**
+     * 모임 목록 불러오기 - 커서 기반 (무한 스크롤용)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseDto<CursorResponseDto<MeetingSummaryResponseDto>>> getMeetingListByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "4") int size) {
+
+        String username = customUserDetails != null ? customUserDetails.getUsername() : null;
+        CursorResponseDto<MeetingSummaryResponseDto> res = meetingService.getMeetingListByCursor(username, cursor, size);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_GET_MEETING_LIST.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_GET_MEETING_LIST, res));
+    }
+
+    /**
+     * 근처 모임 목록 불러오기 (가까운 순)
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<ResponseDto<List<NearbyMeetingResponseDto>>> getNearbyMeetings(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3000") double radius,
+            @RequestParam(defaultValue = "20") int size) {
+
+        String username = customUserDetails != null ? customUserDetails.getUsername() : null;
+        List<NearbyMeetingResponseDto> res = meetingService.getNearbyMeetings(username, latitude, longitude, radius, size);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_GET_NEARBY_MEETINGS.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_GET_NEARBY_MEETINGS, res));
+    }
+
     /**
      * 모임 상세 불러오기
      */
@@ -83,7 +122,7 @@ public class MeetingController implements MeetingControllerDocs {
     public ResponseEntity<ResponseDto<MeetingResponseDto>> updateMeeting(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @PathVariable Long meetingId,
-            @RequestBody UpdateMeetingRequestDto updateMeetingRequestDto) {
+            @Valid @RequestBody UpdateMeetingRequestDto updateMeetingRequestDto) {
 
         MeetingResponseDto res = meetingService.updateMeeting(customUserDetails.getUsername(), meetingId, updateMeetingRequestDto);
         return ResponseEntity
@@ -0,0 +1,40 @@
+package com.example.starhub.controller;
+
+import com.example.starhub.dto.response.MeetingFacetResponseDto;
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.response.code.ResponseCode;
+import com.example.starhub.response.dto.ResponseDto;
+import com.example.starhub.service.MeetingFacetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/meetings")
+@RequiredArgsConstructor
+public class MeetingFacetController {
+
+    private final MeetingFacetService meetingFacetService;
+
+    /**
+     * 모임 패싯 개수 불러오기 (기술 스택, 모집 구분, 진행 기간, 확정 여부별 모임 수)
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ResponseDto<MeetingFacetResponseDto>> getMeetingFacets(
+            @RequestParam(required = false) RecruitmentType recruitmentType,
+            @RequestParam(required = false) Duration duration,
+            @RequestParam(required = false) Boolean isConfirmed,
+            @RequestParam(required = false) List<Long> techStackIds) {
+
+        MeetingFacetResponseDto res = meetingFacetService.getMeetingFacets(recruitmentType, duration, isConfirmed, techStackIds);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_GET_MEETING_FACETS.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_GET_MEETING_FACETS, res));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.starhub.controller;
+
+import com.example.starhub.dto.response.MeetingSummaryResponseDto;
+import com.example.starhub.dto.security.CustomUserDetails;
+import com.example.starhub.response.code.ResponseCode;
+import com.example.starhub.response.dto.ResponseDto;
+import com.example.starhub.service.MeetingSearchService;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/meetings")
+@RequiredArgsConstructor
+public class MeetingSearchController {
+
+    private final MeetingSearchService meetingSearchService;
+
+    /**
+     * 모임 검색하기 (관련도 순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ResponseDto<Page<MeetingSummaryResponseDto>>> searchMeetings(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "4") int size) {
+
+        // 익명 사용자일 경우 null 전달, 인증된 사용자일 경우 customUserDetails 전달
+        String username = customUserDetails != null ? customUserDetails.getUsername() : null;
+
+        Page<MeetingSummaryResponseDto> res = meetingSearchService.searchMeetings(username, query, page, size);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_SEARCH_MEETINGS.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_SEARCH_MEETINGS, res));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.starhub.controller;
 
 import com.example.starhub.dto.request.UpdateProfileRequestDto;
+import com.example.starhub.dto.response.CursorResponseDto;
 import com.example.starhub.dto.response.MeetingSummaryResponseDto;
 import com.example.starhub.dto.response.ProfileResponseDto;
 import com.example.starhub.dto.security.CustomUserDetails;
@@ -125,4 +126,49 @@ public class MyPageController {
                 .status(ResponseCode.SUCCESS_GET_APPLIED_MEETINGS.getStatus().value())
                 .body(new ResponseDto<>(ResponseCode.SUCCESS_GET_APPLIED_MEETINGS, res));
     }
+
+    /**
+     * 내가 작성한 글 목록 불러오기 - 커서 기반
+     */
+    @GetMapping("/meetings/created/cursor")
+    public ResponseEntity<ResponseDto<CursorResponseDto<MeetingSummaryResponseDto>>> getCreatedMeetingsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "9") int size) {
+
+        CursorResponseDto<MeetingSummaryResponseDto> res = myPageService.getCreatedMeetingsByCursor(customUserDetails.getUsername(), cursor, size);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_GET_CREATED_MEETINGS.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_GET_CREATED_MEETINGS, res));
+    }
+
+    /**
+     * 내가 관심있는 글 목록 불러오기 - 커서 기반
+     */
+    @GetMapping("/meetings/liked/cursor")
+    public ResponseEntity<ResponseDto<CursorResponseDto<MeetingSummaryResponseDto>>> getLikedMeetingsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "9") int size) {
+
+        CursorResponseDto<MeetingSummaryResponseDto> res = myPageService.getLikedMeetingsByCursor(customUserDetails.getUsername(), cursor, size);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_GET_LIKED_MEETINGS.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_GET_LIKED_MEETINGS, res));
+    }
+
+    /**
+     * 내가 참여한 모임 글 목록 불러오기 - 커서 기반
+     */
+    @GetMapping("/meetings/applied/cursor")
+    public ResponseEntity<ResponseDto<CursorResponseDto<MeetingSummaryResponseDto>>> getAppliedMeetingsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "9") int size) {
+
+        CursorResponseDto<MeetingSummaryResponseDto> res = myPageService.getAppliedMeetingsByCursor(customUserDetails.getUsername(), cursor, size);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_GET_APPLIED_MEETINGS.getStatus().value())
+                .body(new ResponseDto<>(ResponseCode.SUCCESS_GET_APPLIED_MEETINGS, res));
+    }
 }
@@ -7,6 +7,7 @@ import com.example.starhub.response.dto.ResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -35,14 +36,43 @@ public interface MeetingControllerDocs {
      */
     @Operation(
             summary = "모임 목록 불러오기 (메인 화면에 쓰일 API)",
-            description = "모임 목록 불러오기를 진행합니다. 모임 카드 형식 정보가 담긴 목록을 불러옵니다."
+            description = "모임 목록 불러오기를 진행합니다. 모임 카드 형식 정보가 담긴 목록을 불러옵니다. 모집 구분, 진행 기간, 확정 여부, 마감 날짜 범위, 기술 스택(하나라도 포함) 조건으로 필터링할 수 있습니다."
     )
     ResponseEntity<ResponseDto> getMeetingList(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @ParameterObject MeetingFilterRequestDto meetingFilterRequestDto,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "4") int size
     );
 
+    /**
+     * 모임 목록 불러오기 - 커서 기반 (무한 스크롤용)
+     */
+    @Operation(
+            summary = "모임 목록 불러오기 - 커서 기반 (무한 스크롤용)",
+            description = "생성일 기준 내림차순으로 모임 목록을 불러옵니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어지는 목록을 불러옵니다. 전체 개수는 제공하지 않습니다."
+    )
+    ResponseEntity<ResponseDto<CursorResponseDto<MeetingSummaryResponseDto>>> getMeetingListByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "4") int size
+    );
+
+    /**
+     * 근처 모임 목록 불러오기
+     */
+    @Operation(
+            summary = "근처 모임 목록 불러오기",
+            description = "중심 좌표(latitude, longitude)에서 반경(radius, 미터) 안에 있는 모임을 가까운 순으로 불러옵니다. 반경은 최대 50km, 개수는 최대 100개까지 조회합니다."
+    )
+    ResponseEntity<ResponseDto<List<NearbyMeetingResponseDto>>> getNearbyMeetings(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3000") double radius,
+            @RequestParam(defaultValue = "20") int size
+    );
+
     /**
      * 모임 상세 불러오기
      */
@@ -55,5 +55,6 @@ public class CreateMeetingRequestDto {
 
     private List<Long> techStackIds;
 
-    private List<String> otherTechStacks;
+    private List<@NotBlank(message = "기술 스택 이름을 입력해주세요.")
+                 @Size(max = 50, message = "기술 스택 이름은 50자를 초과할 수 없습니다.") String> otherTechStacks;
 }
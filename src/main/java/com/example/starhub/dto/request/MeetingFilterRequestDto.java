@@ -0,0 +1,41 @@
+package com.example.starhub.dto.request;
+
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 모임 목록 필터 조건 (쿼리 파라미터)
+ * - 값이 없는 조건은 적용하지 않습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingFilterRequestDto {
+
+    private RecruitmentType recruitmentType;  // 모집 구분
+    private Duration duration;  // 진행 기간
+    private Boolean isConfirmed;  // 모임 확정 여부
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDateFrom;  // 마감 날짜 시작 (포함)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDateTo;  // 마감 날짜 끝 (포함)
+
+    private List<Long> techStackIds;  // 기술 스택 (하나라도 포함하면 조회)
+
+    public boolean hasCondition() {
+        return recruitmentType != null || duration != null || isConfirmed != null
+                || endDateFrom != null || endDateTo != null
+                || (techStackIds != null && !techStackIds.isEmpty());
+    }
+}
@@ -5,6 +5,8 @@ import com.example.starhub.entity.enums.RecruitmentType;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -24,5 +26,6 @@ public class UpdateMeetingRequestDto {
     private String goal;
     private String otherInfo;
     private List<Long> techStackIds;
-    private List<String> otherTechStacks;
+    private List<@NotBlank(message = "기술 스택 이름을 입력해주세요.")
+                 @Size(max = 50, message = "기술 스택 이름은 50자를 초과할 수 없습니다.") String> otherTechStacks;
 }
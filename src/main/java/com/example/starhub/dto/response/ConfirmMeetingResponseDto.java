@@ -1,6 +1,7 @@
 package com.example.starhub.dto.response;
 
 import com.example.starhub.entity.UserEntity;
+import com.example.starhub.repository.projection.ConfirmedMemberRow;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -29,4 +30,16 @@ public class ConfirmMeetingResponseDto {
                 .email(userEntity.getEmail())
                 .build();
     }
+
+    public static ConfirmMeetingResponseDto fromRow(ConfirmedMemberRow row) {
+        return ConfirmMeetingResponseDto.builder()
+                .name(row.name())
+                .profileImage(row.profileImage())
+                .nickname(row.nickname())
+                .age(row.age())
+                .bio(row.bio())
+                .phoneNumber(row.phoneNumber())
+                .email(row.email())
+                .build();
+    }
 }
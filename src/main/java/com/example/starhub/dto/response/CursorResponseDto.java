@@ -0,0 +1,15 @@
+package com.example.starhub.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CursorResponseDto<T> {
+
+    private List<T> content; // 조회 결과
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지일 경우 null)
+    private Boolean hasNext; // 다음 페이지 존재 여부
+}
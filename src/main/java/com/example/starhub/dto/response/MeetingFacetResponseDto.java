@@ -0,0 +1,21 @@
+package com.example.starhub.dto.response;
+
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class MeetingFacetResponseDto {
+
+    private Long total; // 모든 조건에 맞는 모임 수
+    private List<TechStackFacetDto> techStacks; // 기술 스택별 모임 수 (많은 순)
+    private Map<RecruitmentType, Long> recruitmentTypes; // 모집 구분별 모임 수
+    private Map<Duration, Long> durations; // 진행 기간별 모임 수
+    private Long open; // 모집 중인 모임 수
+    private Long confirmed; // 확정된 모임 수
+}
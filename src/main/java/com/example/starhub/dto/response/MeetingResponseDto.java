@@ -4,8 +4,10 @@ import com.example.starhub.entity.MeetingEntity;
 import com.example.starhub.entity.UserEntity;
 import com.example.starhub.entity.enums.Duration;
 import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.repository.projection.MeetingDetailRow;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,6 +15,7 @@ import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class MeetingResponseDto {
 
     private Long id;
@@ -67,8 +70,42 @@ public class MeetingResponseDto {
                 .build();
     }
 
+    /**
+     * 모임 상세 조회 프로젝션으로부터 MeetingResponseDto를 생성합니다.
+     *
+     * @param row 모임 상세 조회 결과 행
+     * @param techStacks 기술 스택 이름 목록
+     * @return 생성된 MeetingResponseDto
+     */
+    public static MeetingResponseDto fromDetailRow(MeetingDetailRow row, List<String> techStacks) {
+        CreatorDto creatorDto = CreatorDto.builder()
+                .nickname(row.creatorNickname())
+                .profileImage(row.creatorProfileImage())
+                .build();
+
+        return MeetingResponseDto.builder()
+                .id(row.id())
+                .recruitmentType(row.recruitmentType())
+                .maxParticipants(row.maxParticipants())
+                .duration(row.duration())
+                .endDate(row.endDate())
+                .location(row.location())
+                .latitude(row.latitude())
+                .longitude(row.longitude())
+                .title(row.title())
+                .description(row.description())
+                .goal(row.goal())
+                .otherInfo(row.otherInfo())
+                .isConfirmed(row.isConfirmed())
+                .updatedAt(row.updatedAt())
+                .creator(creatorDto)
+                .techStacks(techStacks)
+                .build();
+    }
+
     @Getter
     @Builder
+    @Jacksonized
     public static class CreatorDto {
         private String nickname; // 개설자 닉네임
         private String profileImage; // 개설자 프로필 이미지
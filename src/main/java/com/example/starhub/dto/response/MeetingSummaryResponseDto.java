@@ -1,8 +1,8 @@
 package com.example.starhub.dto.response;
 
-import com.example.starhub.entity.MeetingEntity;
 import com.example.starhub.entity.enums.Duration;
 import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.repository.projection.MeetingSummaryRow;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -27,25 +27,25 @@ public class MeetingSummaryResponseDto {
     private LikeDto likeDto; // 좋아요 관련 정보
 
     /**
-     * 요약된 포스트 정보
-     * - PostEntity로부터 PostSummaryResponseDto를 생성합니다.
-     * @param meetingEntity 포스트 엔티티
+     * 요약 컬럼만 조회한 프로젝션으로부터 MeetingSummaryResponseDto를 생성합니다.
+     *
+     * @param row 모임 요약 프로젝션
      * @param techStacks 기술 스택 이름 목록
      * @param likeDto 좋아요 관련 정보
-     * @return 생성된 PostSummaryResponseDto
+     * @return 생성된 MeetingSummaryResponseDto
      */
-    public static MeetingSummaryResponseDto fromEntity(MeetingEntity meetingEntity, List<String> techStacks, LikeDto likeDto) {
+    public static MeetingSummaryResponseDto fromRow(MeetingSummaryRow row, List<String> techStacks, LikeDto likeDto) {
         return MeetingSummaryResponseDto.builder()
-                .id(meetingEntity.getId())
-                .title(meetingEntity.getTitle())
-                .recruitmentType(meetingEntity.getRecruitmentType())
-                .maxParticipants(meetingEntity.getMaxParticipants())
-                .duration(meetingEntity.getDuration())
-                .endDate(meetingEntity.getEndDate())
+                .id(row.getId())
+                .title(row.getTitle())
+                .recruitmentType(row.getRecruitmentType())
+                .maxParticipants(row.getMaxParticipants())
+                .duration(row.getDuration())
+                .endDate(row.getEndDate())
                 .techStacks(techStacks)
-                .location(meetingEntity.getLocation())
-                .latitude(meetingEntity.getLatitude())
-                .longitude(meetingEntity.getLongitude())
+                .location(row.getLocation())
+                .latitude(row.getLatitude())
+                .longitude(row.getLongitude())
                 .likeDto(likeDto)
                 .build();
     }
@@ -0,0 +1,12 @@
+package com.example.starhub.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NearbyMeetingResponseDto {
+
+    private Double distance; // 중심 좌표로부터의 거리 (미터)
+    private MeetingSummaryResponseDto meeting; // 모임 요약 정보
+}
@@ -0,0 +1,16 @@
+package com.example.starhub.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PopularLeaderboardVerifyResponseDto {
+
+    private String ranking; // 순위 종류 (PROJECT, STUDY, EXPIRING)
+    private List<Long> redisMeetingIds; // Redis 순위표 결과
+    private List<Long> databaseMeetingIds; // JPQL 쿼리 결과
+    private Boolean matched; // 두 결과의 순위 기준 값이 일치하는지 여부
+}
@@ -0,0 +1,13 @@
+package com.example.starhub.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TechStackFacetDto {
+
+    private Long id; // 기술 스택 아이디
+    private String name; // 기술 스택 이름
+    private Long count; // 모임 수
+}
@@ -2,6 +2,7 @@ package com.example.starhub.dto.response;
 
 import com.example.starhub.entity.TechStackEntity;
 import com.example.starhub.entity.enums.TechCategory;
+import com.example.starhub.service.cache.TechStackDictionary.TechStackEntry;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -19,4 +20,12 @@ public class TechStackResponseDto {
                 .category(techStack.getCategory())
                 .build();
     }
+
+    public static TechStackResponseDto fromEntry(TechStackEntry techStack) {
+        return TechStackResponseDto.builder()
+                .id(techStack.id())
+                .name(techStack.name())
+                .category(techStack.category())
+                .build();
+    }
 }
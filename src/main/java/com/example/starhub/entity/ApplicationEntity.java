@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_application_applicant_created_at", columnList = "applicant_id, created_at, id"))
 public class ApplicationEntity {
 
     @Id
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "meeting_id"}))
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "meeting_id"}),
+        indexes = @Index(name = "idx_like_user_created_at", columnList = "user_id, created_at, id")
+)
 public class LikeEntity {
 
     @Id
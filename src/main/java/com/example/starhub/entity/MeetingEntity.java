@@ -4,7 +4,12 @@ import com.example.starhub.dto.request.CreateMeetingRequestDto;
 import com.example.starhub.dto.request.UpdateMeetingRequestDto;
 import com.example.starhub.entity.enums.Duration;
 import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.util.GeoGrid;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,13 +17,26 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
+@Indexed
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_meeting_popular", columnList = "recruitment_type, is_confirmed, like_count"),
+        @Index(name = "idx_meeting_expiring_popular", columnList = "is_confirmed, end_date, like_count DESC"),
+        @Index(name = "idx_meeting_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_meeting_creator_created_at", columnList = "creator_id, created_at, id"),
+        @Index(name = "idx_meeting_type_confirmed_created_at", columnList = "recruitment_type, is_confirmed, created_at, id"),
+        @Index(name = "idx_meeting_duration_created_at", columnList = "duration, created_at, id"),
+        @Index(name = "idx_meeting_end_date", columnList = "end_date, id"),
+        @Index(name = "idx_meeting_geo_cell", columnList = "geo_cell, latitude, longitude")
+})
 public class MeetingEntity {
 
     @Id
@@ -35,6 +53,7 @@ public class MeetingEntity {
 
     private LocalDate endDate;  // 마감 날짜
 
+    @FullTextField(analyzer = SearchAnalyzerNames.MEETING)
     @Column(length = 100)
     private String location;  // 진행 장소
 
@@ -44,12 +63,17 @@ public class MeetingEntity {
     @Column(precision = 16, scale = 13) // 최대 정수부 3자리 + 소수부 13자리
     private Double longitude;  // 경도
 
+    private Integer geoCell;  // 위치 격자 칸 번호 (근처 모임 검색용, GeoGrid)
+
+    @FullTextField(analyzer = SearchAnalyzerNames.MEETING)
     @Column(length = 100)
     private String title;  // 스터디 제목
 
+    @FullTextField(analyzer = SearchAnalyzerNames.MEETING)
     @Column(columnDefinition = "TEXT")
     private String description;  // 스터디 소개
 
+    @FullTextField(analyzer = SearchAnalyzerNames.MEETING)
     @Column(columnDefinition = "TEXT")
     private String goal;  // 스터디 목표
 
@@ -66,10 +90,20 @@ public class MeetingEntity {
 
     private Boolean isConfirmed;  // 모임 확정 여부
 
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long likeCount = 0L;  // 좋아요 수 (LikeService에서 원자적으로 증감)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "creator_id", nullable = false)
     private UserEntity creator;  // 사용자(작성자)
 
+    @Builder.Default
+    @OneToMany(mappedBy = "meeting")
+    @IndexedEmbedded(includePaths = "techStack.name")
+    private List<MeetingTechStackEntity> meetingTechStacks = new ArrayList<>();  // 기술 스택 연결 (검색 인덱스용, 저장은 MeetingTechStackRepository에서)
+
     public static MeetingEntity createMeeting(UserEntity user, CreateMeetingRequestDto createMeetingRequestDto) {
         return MeetingEntity.builder()
                 .recruitmentType(createMeetingRequestDto.getRecruitmentType())
@@ -79,6 +113,7 @@ public class MeetingEntity {
                 .location(createMeetingRequestDto.getLocation())
                 .latitude(createMeetingRequestDto.getLatitude())
                 .longitude(createMeetingRequestDto.getLongitude())
+                .geoCell(GeoGrid.cellOf(createMeetingRequestDto.getLatitude(), createMeetingRequestDto.getLongitude()))
                 .title(createMeetingRequestDto.getTitle())
                 .description(createMeetingRequestDto.getDescription())
                 .goal(createMeetingRequestDto.getGoal())
@@ -96,12 +131,25 @@ public class MeetingEntity {
         this.location = updateValue(updateMeetingRequestDto.getLocation(), this.location);
         this.latitude = updateValue(updateMeetingRequestDto.getLatitude(), this.latitude);
         this.longitude = updateValue(updateMeetingRequestDto.getLongitude(), this.longitude);
+        this.geoCell = GeoGrid.cellOf(this.latitude, this.longitude);
         this.title = updateValue(updateMeetingRequestDto.getTitle(), this.title);
         this.description = updateValue(updateMeetingRequestDto.getDescription(), this.description);
         this.goal = updateValue(updateMeetingRequestDto.getGoal(), this.goal);
         this.otherInfo = updateValue(updateMeetingRequestDto.getOtherInfo(), this.otherInfo);
     }
 
+    /**
+     * 기술 스택 연결을 교체합니다.
+     * - DB 반영은 MeetingTechStackRepository가 담당하고, 여기서는 검색 인덱스가 읽는 연관 관계만 맞춥니다.
+     */
+    public void clearMeetingTechStacks() {
+        this.meetingTechStacks.clear();
+    }
+
+    public void addMeetingTechStacks(List<MeetingTechStackEntity> meetingTechStacks) {
+        this.meetingTechStacks.addAll(meetingTechStacks);
+    }
+
     private <T> T updateValue(T newValue, T currentValue) {
         return newValue != null ? newValue : currentValue;
     }
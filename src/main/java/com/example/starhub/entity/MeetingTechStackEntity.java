@@ -4,6 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+
 import javax.persistence.*;
 
 @Entity
@@ -11,6 +15,9 @@ import javax.persistence.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_meeting_tech_stack_tech_stack", columnList = "tech_stack_id, meeting_id")
+})
 public class MeetingTechStackEntity {
 
     @Id
@@ -21,6 +28,9 @@ public class MeetingTechStackEntity {
     @JoinColumn(name = "meeting_id", nullable = false)
     private MeetingEntity meeting;  // 스터디와 연관
 
+    // 기술 스택 이름은 바뀌지 않으므로 기술 스택 변경 시 모임을 다시 색인하지 않음
+    @IndexedEmbedded
+    @IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tech_stack_id", nullable = false)
     private TechStackEntity techStack;  // 기술 스택과 연관
@@ -0,0 +1,13 @@
+package com.example.starhub.entity;
+
+/**
+ * 검색 색인 필드에 지정하는 분석기 이름
+ * - 분석기 정의는 MeetingSearchAnalysisConfigurer에서 같은 이름으로 등록합니다.
+ */
+public final class SearchAnalyzerNames {
+
+    public static final String MEETING = "meeting";
+
+    private SearchAnalyzerNames() {
+    }
+}
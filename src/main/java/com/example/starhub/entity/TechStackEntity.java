@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
 
 import javax.persistence.*;
 
@@ -20,6 +21,7 @@ public class TechStackEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // 기술 스택 고유 식별자
 
+    @FullTextField(analyzer = SearchAnalyzerNames.MEETING)
     @Column(nullable = false, unique = true, length = 50)
     private String name; // 기술 스택 이름
 
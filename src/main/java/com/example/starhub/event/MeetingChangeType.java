@@ -0,0 +1,14 @@
+package com.example.starhub.event;
+
+/**
+ * 모임 변경 유형
+ */
+public enum MeetingChangeType {
+
+    CREATED,    // 모임 생성
+    UPDATED,    // 모임 수정
+    DELETED,    // 모임 삭제
+    CONFIRMED,  // 모임원 확정
+    LIKED,      // 좋아요 추가
+    UNLIKED     // 좋아요 취소
+}
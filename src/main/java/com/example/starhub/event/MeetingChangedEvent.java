@@ -0,0 +1,12 @@
+package com.example.starhub.event;
+
+/**
+ * 모임 변경 이벤트
+ * - 모임 생성/수정/삭제/확정, 좋아요 추가/취소 시 발행됩니다.
+ * - 리스너는 트랜잭션 커밋 이후에 처리하여 롤백된 변경이 반영되지 않도록 합니다.
+ *
+ * @param meetingId 변경된 모임 아이디
+ * @param changeType 변경 유형
+ */
+public record MeetingChangedEvent(Long meetingId, MeetingChangeType changeType) {
+}
@@ -0,0 +1,9 @@
+package com.example.starhub.event;
+
+/**
+ * 기술 스택 변경 이벤트
+ * - 관리자의 기술 스택 추가, 모임 작성 시 기타 기술 스택 생성 시 발행됩니다.
+ * - 리스너는 트랜잭션 커밋 이후에 기술 스택 사전을 다시 불러옵니다.
+ */
+public record TechStackChangedEvent() {
+}
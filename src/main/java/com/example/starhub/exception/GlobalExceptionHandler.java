@@ -133,6 +133,30 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponseDto(ErrorCode.INVALID_APPLICATION_ID));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<ErrorResponseDto> handleInvalidCursorException(final InvalidCursorException e) {
+        log.error("handleInvalidCursorException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(ErrorCode.INVALID_CURSOR.getStatus().value())
+                .body(new ErrorResponseDto(ErrorCode.INVALID_CURSOR));
+    }
+
+    @ExceptionHandler(InvalidCoordinateException.class)
+    protected ResponseEntity<ErrorResponseDto> handleInvalidCoordinateException(final InvalidCoordinateException e) {
+        log.error("handleInvalidCoordinateException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(ErrorCode.INVALID_COORDINATE.getStatus().value())
+                .body(new ErrorResponseDto(ErrorCode.INVALID_COORDINATE));
+    }
+
+    @ExceptionHandler(InvalidTechStackNameException.class)
+    protected ResponseEntity<ErrorResponseDto> handleInvalidTechStackNameException(final InvalidTechStackNameException e) {
+        log.error("handleInvalidTechStackNameException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(ErrorCode.INVALID_TECH_STACK_NAME.getStatus().value())
+                .body(new ErrorResponseDto(ErrorCode.INVALID_TECH_STACK_NAME));
+    }
+
     @ExceptionHandler(StudyNotConfirmedException.class)
     protected ResponseEntity<ErrorResponseDto> handleStudyNotConfirmedException(final StudyNotConfirmedException e) {
         log.error("handleStudyNotConfirmedException : {}", e.getErrorCode().getMessage());
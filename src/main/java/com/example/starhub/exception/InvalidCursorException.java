@@ -0,0 +1,11 @@
+package com.example.starhub.exception;
+
+import com.example.starhub.response.code.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class InvalidCursorException extends RuntimeException {
+    private final ErrorCode errorCode;
+}
@@ -1,20 +1,31 @@
 package com.example.starhub.performance;
 
+import com.example.starhub.performance.metrics.PerformanceMetricsRegistry;
+import com.example.starhub.performance.recorder.SlowRequestRecorder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @RequiredArgsConstructor
 @Profile("performance")
-public class PerformanceConfig implements WebMvcConfigurer {
+public class PerformanceConfig {
 
-    private final PerformanceMonitor performanceMonitor;
+    private final PerformanceSampler performanceSampler;
+    private final PerformanceMetricsRegistry performanceMetricsRegistry;
+    private final SlowRequestRecorder slowRequestRecorder;
 
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new PerformanceInterceptor(performanceMonitor));
+    /**
+     * 시큐리티 필터 체인(LoginFilter 등)의 처리 시간까지 포함하도록 그보다 앞에 등록합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<PerformanceFilter> performanceFilter() {
+        FilterRegistrationBean<PerformanceFilter> registration = new FilterRegistrationBean<>(
+                new PerformanceFilter(performanceSampler, performanceMetricsRegistry, slowRequestRecorder));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
     }
 }
@@ -0,0 +1,57 @@
+package com.example.starhub.performance;
+
+/**
+ * 현재 요청 스레드의 PerformanceMonitor 보관소
+ * - 요청 스코프 빈(CGLIB 프록시 + 요청 속성 조회) 대신 ThreadLocal 하나로 상태를 전달합니다.
+ * - PerformanceFilter가 요청 시작 시 등록하고 요청 완료 시 반드시 제거합니다.
+ */
+public final class PerformanceContext {
+
+    private static final ThreadLocal<PerformanceMonitor> CURRENT = new ThreadLocal<>();
+
+    private PerformanceContext() {
+    }
+
+    public static void begin(PerformanceMonitor performanceMonitor) {
+        CURRENT.set(performanceMonitor);
+    }
+
+    public static PerformanceMonitor current() {
+        return CURRENT.get();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 커넥션 래퍼의 QueryExecutionListener로 사용됩니다.
+     */
+    public static void recordQuery(String sql, long queryTime) {
+        PerformanceMonitor performanceMonitor = CURRENT.get();
+        if (performanceMonitor != null) {
+            performanceMonitor.recordQuery(sql, queryTime);
+        }
+    }
+
+    public static void recordRedis(String command, long redisTime) {
+        PerformanceMonitor performanceMonitor = CURRENT.get();
+        if (performanceMonitor != null) {
+            performanceMonitor.recordRedis(command, redisTime);
+        }
+    }
+
+    /**
+     * 지연 로딩 감지기(LazyLoadDetector)가 감지할 때마다 호출합니다.
+     */
+    public static void recordLazyLoad() {
+        PerformanceMonitor performanceMonitor = CURRENT.get();
+        if (performanceMonitor != null) {
+            performanceMonitor.recordLazyLoad();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.starhub.performance;
+
+import com.example.starhub.performance.metrics.PerformanceMetricsRegistry;
+import com.example.starhub.performance.recorder.SlowRequestRecorder;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청 단위 성능 측정 필터
+ * - 스프링 시큐리티 필터 체인보다 먼저 실행되므로 LoginFilter, LogoutFilter처럼
+ *   DispatcherServlet까지 가지 않는 요청도 측정합니다.
+ */
+@RequiredArgsConstructor
+public class PerformanceFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger("PERFORMANCE");
+
+    private final PerformanceSampler performanceSampler;
+    private final PerformanceMetricsRegistry performanceMetricsRegistry;
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isPreflight(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        PerformanceMonitor performanceMonitor = new PerformanceMonitor(
+                performanceSampler.isSampled(request.getMethod(), request.getRequestURI()));
+        performanceMonitor.start(request);
+        PerformanceContext.begin(performanceMonitor);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PerformanceContext.clear();
+            performanceMonitor.end();
+            record(request, performanceMonitor);
+        }
+    }
+
+    private void record(HttpServletRequest request, PerformanceMonitor performanceMonitor) {
+        // 샘플링되지 않은 요청이라도 경고 기준을 넘었다면 기록합니다.
+        String endpoint = resolveEndpoint(request);
+        if (performanceMonitor.isSampled() || performanceMonitor.isWarning()) {
+            logResultOfPerformanceMonitoring(performanceMonitor);
+            performanceMetricsRegistry.record(endpoint, performanceMonitor);
+        }
+        if (performanceMonitor.isWarning()) {
+            slowRequestRecorder.record(endpoint, performanceMonitor);
+        }
+    }
+
+    /**
+     * 경로 변수로 인해 지표가 흩어지지 않도록 매칭된 URI 패턴을 기준으로 집계합니다.
+     * (시큐리티 필터에서 끝난 요청은 패턴이 없으므로 URI를 그대로 사용합니다)
+     */
+    private String resolveEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        return request.getMethod() + " " + path;
+    }
+
+    private void logResultOfPerformanceMonitoring(PerformanceMonitor performanceMonitor) {
+        performanceMonitor.getNPlusOneSuspects().forEach((fingerprint, statistics) ->
+                log.warn("N+1 의심 - uri: '{}', 반복 횟수: {}, sql: {}",
+                        performanceMonitor.getUri(), statistics.getCount(), fingerprint));
+        if (performanceMonitor.isWarning()) {
+            log.warn(performanceMonitor.toString());
+            return;
+        }
+        log.info(performanceMonitor.toString());
+    }
+
+    private boolean isPreflight(HttpServletRequest request) {
+        return request.getMethod().equals("OPTIONS");
+    }
+}
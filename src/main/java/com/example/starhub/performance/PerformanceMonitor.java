@@ -1,46 +1,112 @@
 package com.example.starhub.performance;
 
 import lombok.Getter;
-import org.springframework.context.annotation.Profile;
-import org.springframework.stereotype.Component;
-import org.springframework.web.context.annotation.RequestScope;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
-@Component
-@RequestScope
+/**
+ * 요청 하나의 성능 측정 상태 (PerformanceContext를 통해 요청 스레드에 묶입니다)
+ * - 요청 시간, 쿼리 개수/시간은 모든 요청에서 측정합니다.
+ * - SQL fingerprint 별 통계는 샘플링된 요청에서만 수집합니다.
+ */
 @Getter
-@Profile("performance")
 public class PerformanceMonitor {
 
     private static final double WARNING_REQUEST_TIME = 200 * 1_000_000.0;
     private static final double WARNING_QUERY_COUNT = 5;
     private static final double WARNING_QUERY_TIME = 100 * 1_000_000.0;
+    private static final long SLOW_QUERY_TIME = 50 * 1_000_000L;
+    private static final int N_PLUS_ONE_THRESHOLD = 5;
+    private static final int MAX_TIMELINE_EVENTS = 200;
 
     private String uri;
     private String method;
+    private long startedAt;
     private double requestTime;
     private int queryCount;
     private double queryTime;
+    private int slowQueryCount;
+    private int redisCount;
+    private double redisTime;
+    private int lazyLoadCount;
+    private final boolean sampled;
+    private final Map<String, QueryStatistics> queryStatistics;
+    private final List<TimelineEvent> timeline = new ArrayList<>();
+    private boolean timelineTruncated = false;
     private boolean activate = false;
 
+    public PerformanceMonitor(boolean sampled) {
+        this.sampled = sampled;
+        this.queryStatistics = sampled ? new HashMap<>() : Collections.emptyMap();
+    }
+
     public void start(HttpServletRequest request) {
         uri = request.getRequestURI();
         method = request.getMethod();
+        startedAt = System.currentTimeMillis();
         requestTime = System.nanoTime();
         activate = true;
     }
 
-    public void increaseQueryCount() {
-        if (activate) {
-            queryCount++;
+    public void recordQuery(String sql, long queryTime) {
+        if (!activate) {
+            return;
+        }
+        queryCount++;
+        this.queryTime += queryTime;
+        if (queryTime >= SLOW_QUERY_TIME) {
+            slowQueryCount++;
+        }
+        if (sampled) {
+            queryStatistics.computeIfAbsent(SqlFingerprint.of(sql), key -> new QueryStatistics())
+                    .record(queryTime);
+        }
+        addTimelineEvent(TimelineEventType.SQL, sql, queryTime);
+    }
+
+    public void recordRedis(String command, long redisTime) {
+        if (!activate) {
+            return;
+        }
+        redisCount++;
+        this.redisTime += redisTime;
+        addTimelineEvent(TimelineEventType.REDIS, command, redisTime);
+    }
+
+    public void recordLazyLoad() {
+        if (!activate) {
+            return;
         }
+        lazyLoadCount++;
     }
 
-    public void addQueryTime(long queryTime) {
-        if (activate) {
-            this.queryTime += queryTime;
+    /**
+     * 느린 요청 기록(SlowRequestRecorder)용 타임라인
+     * - 요청이 느린지는 끝나야 알 수 있으므로 모든 요청에서 원본 문자열 참조만 쌓아 두고,
+     *   정규화는 실제로 기록될 때 수행합니다.
+     */
+    private void addTimelineEvent(TimelineEventType type, String statement, long duration) {
+        if (timeline.size() >= MAX_TIMELINE_EVENTS) {
+            timelineTruncated = true;
+            return;
         }
+        long offset = System.nanoTime() - duration - (long) requestTime;
+        timeline.add(new TimelineEvent(type, statement, offset, duration));
+    }
+
+    /**
+     * 한 요청 안에서 N_PLUS_ONE_THRESHOLD 번을 초과해 반복된 쿼리를 N+1 의심 쿼리로 반환합니다.
+     */
+    public Map<String, QueryStatistics> getNPlusOneSuspects() {
+        return queryStatistics.entrySet().stream()
+                .filter(entry -> entry.getValue().getCount() > N_PLUS_ONE_THRESHOLD)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
     public void end() {
@@ -60,12 +126,16 @@ public class PerformanceMonitor {
     @Override
     public String toString() {
         return String.format(
-                "uri: '%s', method: '%s', 요청 처리 시간: %f ms, 쿼리 개수: %d, 쿼리 시간: %f ms",
+                "uri: '%s', method: '%s', 요청 처리 시간: %f ms, 쿼리 개수: %d, 쿼리 시간: %f ms, 느린 쿼리 개수: %d, Redis 호출 수: %d, Redis 시간: %f ms, 지연 로딩 수: %d",
                 uri,
                 method,
                 convertNanoToMilli(requestTime),
                 queryCount,
-                convertNanoToMilli(queryTime)
+                convertNanoToMilli(queryTime),
+                slowQueryCount,
+                redisCount,
+                convertNanoToMilli(redisTime),
+                lazyLoadCount
         );
     }
 }
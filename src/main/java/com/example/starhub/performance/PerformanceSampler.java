@@ -0,0 +1,90 @@
+package com.example.starhub.performance;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 샘플링 여부 결정
+ * - starhub.performance.sampling.rate: 기본 샘플링 비율 (0.0 ~ 1.0)
+ * - starhub.performance.sampling.endpoint-rates: 엔드포인트 별 비율
+ *   예) "GET /api/v1/meetings=0.05, GET /api/v1/meetings/{meetingId}=0.01"
+ *   (URI 패턴은 경로 변수를 포함한 Ant 스타일로 매칭합니다)
+ * 샘플링되지 않은 요청도 경고 기준을 넘으면 PerformanceFilter에서 기록합니다.
+ * 비율이 숫자가 아니거나 0.0 ~ 1.0 범위를 벗어나면 시작 시 실패합니다.
+ */
+@Component
+@Profile("performance")
+public class PerformanceSampler {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final double defaultRate;
+    private final List<EndpointRate> endpointRates;
+
+    public PerformanceSampler(@Value("${starhub.performance.sampling.rate:1.0}") double defaultRate,
+                              @Value("${starhub.performance.sampling.endpoint-rates:}") String endpointRates) {
+        this.defaultRate = validateRate(defaultRate, "rate=" + defaultRate);
+        this.endpointRates = parseEndpointRates(endpointRates);
+    }
+
+    /**
+     * 필터 단계에서는 매칭된 핸들러 패턴을 알 수 없으므로 요청 URI를 설정된 패턴과 비교합니다.
+     */
+    public boolean isSampled(String method, String uri) {
+        double rate = resolveRate(method, uri);
+        if (rate >= 1.0) {
+            return true;
+        }
+        return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private double resolveRate(String method, String uri) {
+        for (EndpointRate endpointRate : endpointRates) {
+            if (endpointRate.method().equals(method) && PATH_MATCHER.match(endpointRate.pattern(), uri)) {
+                return endpointRate.rate();
+            }
+        }
+        return defaultRate;
+    }
+
+    private static List<EndpointRate> parseEndpointRates(String endpointRates) {
+        if (endpointRates == null || endpointRates.isBlank()) {
+            return List.of();
+        }
+
+        List<EndpointRate> rates = new ArrayList<>();
+        for (String entry : endpointRates.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            String[] endpoint = entry.substring(0, Math.max(separator, 0)).trim().split("\\s+");
+            if (separator < 0 || endpoint.length != 2) {
+                throw new IllegalArgumentException("잘못된 샘플링 설정입니다: " + entry.trim());
+            }
+            rates.add(new EndpointRate(endpoint[0], endpoint[1], parseRate(entry.substring(separator + 1).trim(), entry.trim())));
+        }
+        return List.copyOf(rates);
+    }
+
+    private static double parseRate(String rate, String entry) {
+        try {
+            return validateRate(Double.parseDouble(rate), entry);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 샘플링 설정입니다: " + entry, e);
+        }
+    }
+
+    private static double validateRate(double rate, String entry) {
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException("샘플링 비율은 0.0 ~ 1.0 사이여야 합니다: " + entry);
+        }
+        return rate;
+    }
+
+    private record EndpointRate(String method, String pattern, double rate) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.starhub.performance;
+
+/**
+ * 쿼리 실행이 끝날 때마다 호출되는 콜백
+ * - 커넥션을 감쌀 때 한 번 정해지므로, 실행마다 어떤 처리를 할지 다시 판단하지 않습니다.
+ */
+@FunctionalInterface
+public interface QueryExecutionListener {
+
+    void onQueryExecuted(String sql, long queryTime);
+}
@@ -0,0 +1,20 @@
+package com.example.starhub.performance;
+
+import lombok.Getter;
+
+/**
+ * 한 요청 안에서 같은 fingerprint로 실행된 쿼리의 통계
+ */
+@Getter
+public class QueryStatistics {
+
+    private int count;
+    private long totalTime;
+    private long maxTime;
+
+    public void record(long queryTime) {
+        count++;
+        totalTime += queryTime;
+        maxTime = Math.max(maxTime, queryTime);
+    }
+}
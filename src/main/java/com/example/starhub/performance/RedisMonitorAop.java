@@ -0,0 +1,33 @@
+package com.example.starhub.performance;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisService 호출 시간 측정
+ * - 리프레시 토큰 저장/조회/삭제(LoginFilter, LogoutFilter, UserService.reissueToken)와
+ *   캐시 조회처럼 RedisService를 거치는 호출을 요청 단위로 집계합니다.
+ * - 키에는 토큰 값이 포함될 수 있으므로 메서드 이름만 기록합니다.
+ */
+@Component
+@Aspect
+@Profile("performance")
+public class RedisMonitorAop {
+
+    @Around("execution(public * com.example.starhub.service.RedisService.*(..))")
+    public Object redisService(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        if (!PerformanceContext.isActive()) {
+            return proceedingJoinPoint.proceed();
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            return proceedingJoinPoint.proceed();
+        } finally {
+            PerformanceContext.recordRedis(proceedingJoinPoint.getSignature().getName(), System.nanoTime() - startTime);
+        }
+    }
+}
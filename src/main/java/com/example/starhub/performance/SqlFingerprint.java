@@ -0,0 +1,31 @@
+package com.example.starhub.performance;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장을 파라미터 값과 무관한 형태(fingerprint)로 정규화합니다.
+ * - 문자열/숫자 리터럴은 ?로, IN 절의 파라미터 목록은 (?) 하나로 치환합니다.
+ * - 공백과 대소문자 차이를 제거해 같은 쿼리가 하나로 집계되도록 합니다.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return normalized.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.starhub.performance;
+
+/**
+ * 요청 안에서 실행된 외부 호출 하나 (시간 단위: ns)
+ *
+ * @param offset   요청 시작 시점부터 호출 시작까지의 시간
+ * @param duration 호출 소요 시간
+ */
+public record TimelineEvent(
+        TimelineEventType type,
+        String statement,
+        long offset,
+        long duration
+) {
+}
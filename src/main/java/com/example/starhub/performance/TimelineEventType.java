@@ -0,0 +1,6 @@
+package com.example.starhub.performance;
+
+public enum TimelineEventType {
+    SQL,
+    REDIS
+}
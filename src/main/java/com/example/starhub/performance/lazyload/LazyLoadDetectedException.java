@@ -0,0 +1,12 @@
+package com.example.starhub.performance.lazyload;
+
+/**
+ * FAIL 모드에서 지연 로딩이 일어나면 발생합니다.
+ * - 쿼리를 실행하기 전에 발생하므로 연관 엔티티는 초기화되지 않습니다.
+ */
+public class LazyLoadDetectedException extends RuntimeException {
+
+    public LazyLoadDetectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.starhub.performance.lazyload;
+
+/**
+ * 지연 로딩 감지 모드 (starhub.jpa.lazy-load-detector.mode)
+ */
+public enum LazyLoadDetectionMode {
+
+    OFF,   // 감지하지 않음 (리스너를 등록하지 않음)
+    LOG,   // 감지할 때마다 경고 로그
+    FAIL   // 감지하면 LazyLoadDetectedException (테스트용)
+}
@@ -0,0 +1,130 @@
+package com.example.starhub.performance.lazyload;
+
+import com.example.starhub.performance.PerformanceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * 지연 로딩 감지기
+ * - 프록시 초기화(IMMEDIATE_LOAD)와 지연 컬렉션 초기화를 Hibernate 이벤트로 감지합니다.
+ * - 어떤 엔티티/연관을 어느 코드(애플리케이션 스택 프레임)에서 초기화했는지 요청 URI와 함께 보고합니다.
+ * - 기본 리스너보다 먼저 실행되도록 앞에 등록하므로 FAIL 모드에서는 쿼리가 실행되지 않습니다.
+ * - Hibernate Search 색인 중의 로딩은 색인기가 의도한 것이므로 제외합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LazyLoadDetector implements Integrator, LoadEventListener, InitializeCollectionEventListener {
+
+    private static final String APPLICATION_PACKAGE = "com.example.starhub.";
+    private static final String DETECTOR_PACKAGE = LazyLoadDetector.class.getPackageName() + ".";
+    private static final String SEARCH_PACKAGE = "org.hibernate.search.";
+
+    private final LazyLoadDetectionMode mode;
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        EventListenerRegistry eventListenerRegistry = serviceRegistry.getService(EventListenerRegistry.class);
+        eventListenerRegistry.prependListeners(EventType.LOAD, this);
+        eventListenerRegistry.prependListeners(EventType.INIT_COLLECTION, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    /**
+     * 프록시(@ManyToOne LAZY, getReference) 초기화
+     */
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        if (loadType != LoadEventListener.IMMEDIATE_LOAD) {
+            return;
+        }
+        detect(unqualify(event.getEntityClassName()) + "#" + event.getEntityId() + " (프록시)");
+    }
+
+    /**
+     * 지연 컬렉션(@OneToMany 등) 초기화
+     */
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        // 역할 이름: 소유 엔티티 클래스명.연관 필드명
+        PersistentCollection collection = event.getCollection();
+        String role = collection.getRole();
+        String owner = role.substring(0, role.lastIndexOf('.'));
+        detect(unqualify(owner) + "." + unqualify(role) + "#" + collection.getKey() + " (컬렉션)");
+    }
+
+    private void detect(String target) {
+        Optional<String> callSite = findCallSite();
+        if (callSite.isEmpty()) {
+            return;
+        }
+
+        String message = String.format("지연 로딩 감지 - 대상: %s, 호출 위치: %s, 요청: %s", target, callSite.get(), currentRequest());
+        PerformanceContext.recordLazyLoad();
+        if (mode == LazyLoadDetectionMode.FAIL) {
+            throw new LazyLoadDetectedException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * 지연 로딩을 일으킨 애플리케이션 코드 위치 (Hibernate Search 색인 중이면 빈 값)
+     */
+    private Optional<String> findCallSite() {
+        return StackWalker.getInstance().walk(frames -> {
+            String callSite = null;
+            Iterator<StackWalker.StackFrame> iterator = frames.iterator();
+            while (iterator.hasNext()) {
+                StackWalker.StackFrame frame = iterator.next();
+                String className = frame.getClassName();
+                if (className.startsWith(SEARCH_PACKAGE)) {
+                    return Optional.empty();
+                }
+                if (callSite == null && isApplicationCode(className)) {
+                    callSite = unqualify(className) + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+                }
+            }
+            return Optional.of(callSite != null ? callSite : "unknown");
+        });
+    }
+
+    private boolean isApplicationCode(String className) {
+        return className.startsWith(APPLICATION_PACKAGE)
+                && !className.startsWith(DETECTOR_PACKAGE)
+                && !className.contains("$HibernateProxy$");
+    }
+
+    private String currentRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            HttpServletRequest request = servletRequestAttributes.getRequest();
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+        return "-";
+    }
+
+    // com.example.starhub.entity.MeetingEntity -> MeetingEntity
+    private static String unqualify(String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.starhub.performance.lazyload;
+
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 지연 로딩 감지기 설정
+ * - OFF(기본값)이면 Hibernate 리스너를 등록하지 않으므로 비용이 없습니다.
+ * - 테스트에서는 FAIL로 지정해 숨은 지연 로딩 쿼리를 실패로 드러냅니다.
+ */
+@Configuration
+public class LazyLoadDetectorConfig {
+
+    @Value("${starhub.jpa.lazy-load-detector.mode:off}")
+    private LazyLoadDetectionMode mode;
+
+    @Bean
+    public HibernatePropertiesCustomizer lazyLoadDetectorPropertiesCustomizer() {
+        return properties -> {
+            if (mode == LazyLoadDetectionMode.OFF) {
+                return;
+            }
+            LazyLoadDetector lazyLoadDetector = new LazyLoadDetector(mode);
+            properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(lazyLoadDetector));
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.starhub.performance.metrics;
+
+import com.example.starhub.performance.QueryStatistics;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * URI 패턴 하나에 대한 누적 지표
+ */
+@Getter
+public class EndpointMetrics {
+
+    private final LogLinearHistogram latencyMicros = new LogLinearHistogram();    // 요청 처리 시간 (µs)
+    private final LogLinearHistogram queryCounts = new LogLinearHistogram();      // 요청당 쿼리 개수
+    private final LogLinearHistogram queryTimeMicros = new LogLinearHistogram();  // 요청당 쿼리 시간 합 (µs)
+    private final LogLinearHistogram redisCounts = new LogLinearHistogram();      // 요청당 Redis 호출 수
+    private final LogLinearHistogram redisTimeMicros = new LogLinearHistogram();  // 요청당 Redis 시간 합 (µs)
+    private final LongAdder slowQueries = new LongAdder();                        // 느린 쿼리 개수
+    private final LongAdder warningRequests = new LongAdder();                    // 경고 기준을 넘은 요청 수
+    private final ConcurrentMap<String, SqlMetrics> queries = new ConcurrentHashMap<>(); // SQL fingerprint 별 지표
+
+    public void record(long requestNanos, int queryCount, long queryNanos, int slowQueryCount,
+                       int redisCount, long redisNanos, boolean warning) {
+        latencyMicros.record(requestNanos / 1_000);
+        queryCounts.record(queryCount);
+        queryTimeMicros.record(queryNanos / 1_000);
+        redisCounts.record(redisCount);
+        redisTimeMicros.record(redisNanos / 1_000);
+        slowQueries.add(slowQueryCount);
+        if (warning) {
+            warningRequests.increment();
+        }
+    }
+
+    public void recordQueries(Map<String, QueryStatistics> queryStatistics, Set<String> nPlusOneSuspects) {
+        queryStatistics.forEach((fingerprint, statistics) ->
+                queries.computeIfAbsent(fingerprint, key -> new SqlMetrics())
+                        .record(statistics, nPlusOneSuspects.contains(fingerprint)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.starhub.performance.metrics;
+
+/**
+ * 엔드포인트 지표 조회 결과 (시간 단위: ms)
+ */
+public record EndpointMetricsSnapshot(
+        String endpoint,
+        long requests,
+        double latencyP50,
+        double latencyP90,
+        double latencyP99,
+        double latencyMax,
+        long queryCountP50,
+        long queryCountP99,
+        long queryCountMax,
+        double queryTimeMean,
+        long redisCountMax,
+        double redisTimeMean,
+        double redisTimeP99,
+        long slowQueries,
+        long warningRequests
+) {
+
+    public static EndpointMetricsSnapshot of(String endpoint, EndpointMetrics metrics) {
+        LogLinearHistogram latency = metrics.getLatencyMicros();
+        LogLinearHistogram queryCounts = metrics.getQueryCounts();
+
+        return new EndpointMetricsSnapshot(
+                endpoint,
+                latency.getCount(),
+                toMillis(latency.getValueAtPercentile(50)),
+                toMillis(latency.getValueAtPercentile(90)),
+                toMillis(latency.getValueAtPercentile(99)),
+                toMillis(latency.getMax()),
+                queryCounts.getValueAtPercentile(50),
+                queryCounts.getValueAtPercentile(99),
+                queryCounts.getMax(),
+                metrics.getQueryTimeMicros().getMean() / 1_000.0,
+                metrics.getRedisCounts().getMax(),
+                metrics.getRedisTimeMicros().getMean() / 1_000.0,
+                toMillis(metrics.getRedisTimeMicros().getValueAtPercentile(99)),
+                metrics.getSlowQueries().sum(),
+                metrics.getWarningRequests().sum()
+        );
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.starhub.performance.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HDR 방식의 로그-선형 히스토그램 (lock-free)
+ * - 0 ~ 63은 값 그대로 기록하고, 그 이상은 2의 거듭제곱 구간마다 32개 하위 구간으로 나눕니다. (상대 오차 약 3% 이내)
+ * - 기록은 AtomicLongArray 증가 한 번이므로 여러 요청 스레드가 락 없이 동시에 기록할 수 있습니다.
+ */
+public class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;   // 32
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;      // 64
+    private static final int MAX_BIT = 40;                              // 약 1.1 * 10^12 까지 기록
+    private static final long MAX_VALUE = (1L << MAX_BIT) - 1;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_BIT - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        long clamped = Math.max(0, Math.min(value, MAX_VALUE));
+        counts.incrementAndGet(indexOf(clamped));
+        totalCount.increment();
+        sum.add(clamped);
+        max.accumulateAndGet(clamped, Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * 백분위 값을 반환합니다. (해당 구간의 상한값)
+     *
+     * @param percentile 0 ~ 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long accumulated = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            accumulated += counts.get(index);
+            if (accumulated >= target) {
+                return Math.min(upperBoundOf(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.starhub.performance.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 성능 지표 조회용 내부 엔드포인트
+ * - 관리자만 접근 가능합니다. (SecurityConfig)
+ */
+@RestController
+@RequestMapping("/internal/performance")
+@RequiredArgsConstructor
+@Profile("performance")
+public class PerformanceMetricsController {
+
+    private final PerformanceMetricsRegistry performanceMetricsRegistry;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<List<EndpointMetricsSnapshot>> getMetrics() {
+        return ResponseEntity.ok(performanceMetricsRegistry.snapshot());
+    }
+
+    @GetMapping("/sql")
+    public ResponseEntity<List<SqlMetricsSnapshot>> getSqlMetrics() {
+        return ResponseEntity.ok(performanceMetricsRegistry.sqlSnapshot());
+    }
+
+    @GetMapping("/n-plus-one")
+    public ResponseEntity<List<SqlMetricsSnapshot>> getNPlusOneReport() {
+        return ResponseEntity.ok(performanceMetricsRegistry.nPlusOneReport());
+    }
+
+    @DeleteMapping("/metrics")
+    public ResponseEntity<Void> resetMetrics() {
+        performanceMetricsRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.starhub.performance.metrics;
+
+import com.example.starhub.performance.PerformanceMonitor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 단위 성능 지표 저장소
+ * - "HTTP 메서드 + URI 패턴" 별로 지연 시간, 쿼리 개수 분포, 느린 쿼리 수를 누적합니다.
+ * - 기록 경로는 ConcurrentHashMap 조회와 원자적 증가뿐이라 락을 잡지 않습니다.
+ */
+@Component
+@Profile("performance")
+public class PerformanceMetricsRegistry {
+
+    private static final int MAX_ENDPOINTS = 500;
+    private static final String OTHER_ENDPOINT = "OTHER";
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, PerformanceMonitor performanceMonitor) {
+        EndpointMetrics metrics = endpoints.computeIfAbsent(limitCardinality(endpoint), key -> new EndpointMetrics());
+        metrics.record((long) performanceMonitor.getRequestTime(),
+                performanceMonitor.getQueryCount(),
+                (long) performanceMonitor.getQueryTime(),
+                performanceMonitor.getSlowQueryCount(),
+                performanceMonitor.getRedisCount(),
+                (long) performanceMonitor.getRedisTime(),
+                performanceMonitor.isWarning());
+        metrics.recordQueries(performanceMonitor.getQueryStatistics(),
+                performanceMonitor.getNPlusOneSuspects().keySet());
+    }
+
+    public List<EndpointMetricsSnapshot> snapshot() {
+        return endpoints.entrySet().stream()
+                .map(entry -> EndpointMetricsSnapshot.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(EndpointMetricsSnapshot::latencyP99).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 엔드포인트/SQL fingerprint 별 지표를 총 실행 시간이 긴 순서로 반환합니다.
+     */
+    public List<SqlMetricsSnapshot> sqlSnapshot() {
+        return endpoints.entrySet().stream()
+                .flatMap(endpoint -> endpoint.getValue().getQueries().entrySet().stream()
+                        .map(query -> SqlMetricsSnapshot.of(endpoint.getKey(), query.getKey(), query.getValue())))
+                .sorted(Comparator.comparingDouble(SqlMetricsSnapshot::totalTime).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 번이라도 N+1로 판정된 쿼리만 반복 횟수가 많은 순서로 반환합니다.
+     */
+    public List<SqlMetricsSnapshot> nPlusOneReport() {
+        return sqlSnapshot().stream()
+                .filter(snapshot -> snapshot.nPlusOneRequests() > 0)
+                .sorted(Comparator.comparingLong(SqlMetricsSnapshot::maxPerRequest).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * 핸들러에 매칭되지 않은 요청(시큐리티 필터에서 거부된 임의 URI 등)은 URI 그대로 집계되므로,
+     * 엔드포인트 수가 한도를 넘으면 새 엔드포인트는 OTHER로 모읍니다.
+     */
+    private String limitCardinality(String endpoint) {
+        if (endpoints.size() >= MAX_ENDPOINTS && !endpoints.containsKey(endpoint)) {
+            return OTHER_ENDPOINT;
+        }
+        return endpoint;
+    }
+}
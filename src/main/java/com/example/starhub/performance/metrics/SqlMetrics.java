@@ -0,0 +1,30 @@
+package com.example.starhub.performance.metrics;
+
+import com.example.starhub.performance.QueryStatistics;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나에서 SQL fingerprint 하나에 대한 누적 지표
+ */
+@Getter
+public class SqlMetrics {
+
+    private final LongAdder executions = new LongAdder();   // 총 실행 횟수
+    private final LongAdder totalTime = new LongAdder();    // 총 실행 시간 (ns)
+    private final AtomicLong maxTime = new AtomicLong();    // 단일 실행 최대 시간 (ns)
+    private final AtomicLong maxPerRequest = new AtomicLong();  // 한 요청 안에서의 최대 반복 횟수
+    private final LongAdder nPlusOneRequests = new LongAdder(); // N+1로 판정된 요청 수
+
+    public void record(QueryStatistics statistics, boolean nPlusOne) {
+        executions.add(statistics.getCount());
+        totalTime.add(statistics.getTotalTime());
+        maxTime.accumulateAndGet(statistics.getMaxTime(), Math::max);
+        maxPerRequest.accumulateAndGet(statistics.getCount(), Math::max);
+        if (nPlusOne) {
+            nPlusOneRequests.increment();
+        }
+    }
+}
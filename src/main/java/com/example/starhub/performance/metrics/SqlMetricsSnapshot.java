@@ -0,0 +1,31 @@
+package com.example.starhub.performance.metrics;
+
+/**
+ * SQL fingerprint 지표 조회 결과 (시간 단위: ms)
+ */
+public record SqlMetricsSnapshot(
+        String endpoint,
+        String fingerprint,
+        long executions,
+        double totalTime,
+        double maxTime,
+        long maxPerRequest,
+        long nPlusOneRequests
+) {
+
+    public static SqlMetricsSnapshot of(String endpoint, String fingerprint, SqlMetrics metrics) {
+        return new SqlMetricsSnapshot(
+                endpoint,
+                fingerprint,
+                metrics.getExecutions().sum(),
+                toMillis(metrics.getTotalTime().sum()),
+                toMillis(metrics.getMaxTime().get()),
+                metrics.getMaxPerRequest().get(),
+                metrics.getNPlusOneRequests().sum()
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
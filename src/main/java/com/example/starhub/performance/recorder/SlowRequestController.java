@@ -0,0 +1,35 @@
+package com.example.starhub.performance.recorder;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 느린 요청 기록 조회용 내부 엔드포인트
+ * - 관리자만 접근 가능합니다. (SecurityConfig)
+ */
+@RestController
+@RequestMapping("/internal/performance")
+@RequiredArgsConstructor
+@Profile("performance")
+public class SlowRequestController {
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    @GetMapping("/slow-requests")
+    public ResponseEntity<List<SlowRequestRecord>> getSlowRequests() {
+        return ResponseEntity.ok(slowRequestRecorder.dump());
+    }
+
+    @DeleteMapping("/slow-requests")
+    public ResponseEntity<Void> clearSlowRequests() {
+        slowRequestRecorder.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
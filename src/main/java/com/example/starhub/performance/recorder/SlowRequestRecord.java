@@ -0,0 +1,65 @@
+package com.example.starhub.performance.recorder;
+
+import com.example.starhub.performance.PerformanceMonitor;
+import com.example.starhub.performance.SqlFingerprint;
+import com.example.starhub.performance.TimelineEvent;
+import com.example.starhub.performance.TimelineEventType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 느린 요청 한 건의 기록 (시간 단위: ms)
+ */
+public record SlowRequestRecord(
+        long sequence,
+        Instant startedAt,
+        String endpoint,
+        String uri,
+        double totalTime,
+        int queryCount,
+        double queryTime,
+        int redisCount,
+        double redisTime,
+        List<Entry> timeline,
+        boolean timelineTruncated
+) {
+
+    public record Entry(
+            TimelineEventType type,
+            String statement,
+            double offset,
+            double duration
+    ) {
+
+        static Entry from(TimelineEvent event) {
+            String statement = event.type() == TimelineEventType.SQL
+                    ? SqlFingerprint.of(event.statement())
+                    : event.statement();
+            return new Entry(event.type(), statement, toMillis(event.offset()), toMillis(event.duration()));
+        }
+    }
+
+    public static SlowRequestRecord of(long sequence, String endpoint, PerformanceMonitor performanceMonitor) {
+        return new SlowRequestRecord(
+                sequence,
+                Instant.ofEpochMilli(performanceMonitor.getStartedAt()),
+                endpoint,
+                performanceMonitor.getUri(),
+                toMillis((long) performanceMonitor.getRequestTime()),
+                performanceMonitor.getQueryCount(),
+                toMillis((long) performanceMonitor.getQueryTime()),
+                performanceMonitor.getRedisCount(),
+                toMillis((long) performanceMonitor.getRedisTime()),
+                performanceMonitor.getTimeline().stream()
+                        .map(Entry::from)
+                        .collect(Collectors.toList()),
+                performanceMonitor.isTimelineTruncated()
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.starhub.performance.recorder;
+
+import com.example.starhub.performance.PerformanceMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 느린 요청을 고정 크기 링 버퍼에 보관하는 flight recorder
+ * - 버퍼가 가득 차면 가장 오래된 기록을 덮어씁니다.
+ * - 기록은 시퀀스 증가 + 배열 슬롯 교체뿐이라 락을 잡지 않습니다.
+ */
+@Component
+@Profile("performance")
+public class SlowRequestRecorder {
+
+    private final AtomicReferenceArray<SlowRequestRecord> buffer;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowRequestRecorder(@Value("${starhub.performance.flight-recorder.capacity:100}") int capacity) {
+        this.buffer = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    public void record(String endpoint, PerformanceMonitor performanceMonitor) {
+        long next = sequence.getAndIncrement();
+        buffer.set((int) (next % buffer.length()), SlowRequestRecord.of(next, endpoint, performanceMonitor));
+    }
+
+    /**
+     * 보관 중인 기록을 최신순으로 반환합니다.
+     */
+    public List<SlowRequestRecord> dump() {
+        List<SlowRequestRecord> records = new ArrayList<>(buffer.length());
+        for (int index = 0; index < buffer.length(); index++) {
+            SlowRequestRecord record = buffer.get(index);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        records.sort(Comparator.comparingLong(SlowRequestRecord::sequence).reversed());
+        return records;
+    }
+
+    public void clear() {
+        for (int index = 0; index < buffer.length(); index++) {
+            buffer.set(index, null);
+        }
+    }
+}
@@ -4,11 +4,15 @@ import com.example.starhub.entity.ApplicationEntity;
 import com.example.starhub.entity.MeetingEntity;
 import com.example.starhub.entity.UserEntity;
 import com.example.starhub.entity.enums.ApplicationStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.example.starhub.repository.projection.ConfirmedMemberRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +22,57 @@ public interface ApplicationRepository extends JpaRepository<ApplicationEntity,
     @Query("SELECT a FROM ApplicationEntity a JOIN FETCH a.applicant WHERE a.meeting = :meetingEntity")
     List<ApplicationEntity> findByMeeting(MeetingEntity meetingEntity);
     Optional<ApplicationEntity> findByApplicantAndMeeting(UserEntity userEntity, MeetingEntity meetingEntity);
+
+    // 확정된 모임원 목록 - 지원서마다 지원자를 지연 로딩하지 않도록 함께 조회
+    @EntityGraph(attributePaths = "applicant")
     List<ApplicationEntity> findByMeetingAndStatus(MeetingEntity meetingEntity, ApplicationStatus status);
-    List<ApplicationEntity> findTop3ByApplicantOrderByCreatedAtDesc(UserEntity user);
-    Page<ApplicationEntity> findByApplicant(UserEntity user, Pageable pageable);
+
+    // 모임 확정 - 승인할 지원서와 지원자 정보를 한 번에 조회 (다른 모임의 지원서는 제외)
+    @Query("""
+        SELECT new com.example.starhub.repository.projection.ConfirmedMemberRow(
+            a.id, a.status, u.name, u.profileImage, u.nickname, u.age, u.bio, u.phoneNumber, u.email)
+        FROM ApplicationEntity a
+        JOIN a.applicant u
+        WHERE a.meeting.id = :meetingId
+            AND a.id IN :applicationIds
+        ORDER BY a.id
+    """)
+    List<ConfirmedMemberRow> findConfirmedMemberRows(@Param("meetingId") Long meetingId, @Param("applicationIds") Collection<Long> applicationIds);
+
+    // 모임 확정 - 선택된 지원서 일괄 승인
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ApplicationEntity a
+        SET a.status = com.example.starhub.entity.enums.ApplicationStatus.APPROVED, a.updatedAt = :now
+        WHERE a.meeting.id = :meetingId
+            AND a.id IN :applicationIds
+            AND a.status = com.example.starhub.entity.enums.ApplicationStatus.PENDING
+    """)
+    int approveAll(@Param("meetingId") Long meetingId, @Param("applicationIds") Collection<Long> applicationIds, @Param("now") LocalDateTime now);
+
+    // 모임 확정 - 선택되지 않은 대기 중 지원서 일괄 거절
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ApplicationEntity a
+        SET a.status = com.example.starhub.entity.enums.ApplicationStatus.REJECTED, a.updatedAt = :now
+        WHERE a.meeting.id = :meetingId
+            AND a.id NOT IN :applicationIds
+            AND a.status = com.example.starhub.entity.enums.ApplicationStatus.PENDING
+    """)
+    int rejectAllExcept(@Param("meetingId") Long meetingId, @Param("applicationIds") Collection<Long> applicationIds, @Param("now") LocalDateTime now);
+
+    // 모임 확정 - 승인할 지원서가 없을 때 대기 중 지원서 전부 거절 (빈 NOT IN 방지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ApplicationEntity a
+        SET a.status = com.example.starhub.entity.enums.ApplicationStatus.REJECTED, a.updatedAt = :now
+        WHERE a.meeting.id = :meetingId
+            AND a.status = com.example.starhub.entity.enums.ApplicationStatus.PENDING
+    """)
+    int rejectAllPending(@Param("meetingId") Long meetingId, @Param("now") LocalDateTime now);
+
+    // 모임 삭제 시 지원서를 DELETE 한 번으로 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ApplicationEntity a WHERE a.meeting.id = :meetingId")
+    int deleteAllByMeetingId(@Param("meetingId") Long meetingId);
 }
@@ -3,20 +3,29 @@ package com.example.starhub.repository;
 import com.example.starhub.entity.LikeEntity;
 import com.example.starhub.entity.MeetingEntity;
 import com.example.starhub.entity.UserEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<LikeEntity, Long> {
 
-    Long countByMeeting(MeetingEntity meetingEntity);
-    boolean existsByMeetingAndUserUsername(MeetingEntity meetingEntity, String username);
-    void deleteByMeeting(MeetingEntity meetingEntity);
     boolean existsByUserAndMeeting(UserEntity user, MeetingEntity meeting);
     Optional<LikeEntity> findByUserAndMeeting(UserEntity user, MeetingEntity meeting);
-    List<LikeEntity> findTop3ByUserOrderByCreatedAtDesc(UserEntity user);
-    Page<LikeEntity> findByUser(UserEntity user, Pageable pageable);
+
+    @Query("""
+        SELECT l.meeting.id
+        FROM LikeEntity l
+        WHERE l.user.username = :username
+            AND l.meeting.id IN :meetingIds
+    """)
+    List<Long> findLikedMeetingIds(@Param("username") String username, @Param("meetingIds") List<Long> meetingIds);
+
+    // 모임 삭제 시 좋아요를 DELETE 한 번으로 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM LikeEntity l WHERE l.meeting.id = :meetingId")
+    int deleteAllByMeetingId(@Param("meetingId") Long meetingId);
 }
@@ -3,42 +3,290 @@ package com.example.starhub.repository;
 import com.example.starhub.entity.MeetingEntity;
 import com.example.starhub.entity.UserEntity;
 import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.repository.projection.MeetingDetailRow;
+import com.example.starhub.repository.projection.MeetingFacetRow;
+import com.example.starhub.repository.projection.MeetingSummaryRow;
+import com.example.starhub.repository.projection.MeetingViewerState;
+import com.example.starhub.repository.projection.NearbyMeetingDistance;
+import com.example.starhub.repository.projection.PopularMeetingScore;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface MeetingRepository extends JpaRepository<MeetingEntity, Long> {
+public interface MeetingRepository extends JpaRepository<MeetingEntity, Long>, MeetingRepositoryCustom {
 
     @Query("SELECT m FROM MeetingEntity m JOIN FETCH m.creator WHERE m.id = :meetingId")
     Optional<MeetingEntity> findWithCreatorById(@Param("meetingId") Long meetingId);
-    List<MeetingEntity> findTop3ByCreatorOrderByCreatedAtDesc(UserEntity creator);
-    Page<MeetingEntity> findByCreator(UserEntity creator, Pageable pageable);
+
+    // 모임 상세 - 모임, 개설자, 기술 스택, 조회자별 상태를 한 번의 쿼리로 조회 (기술 스택 수만큼 행 반복)
+    @Query("""
+        SELECT new com.example.starhub.repository.projection.MeetingDetailRow(
+            m.id, m.recruitmentType, m.maxParticipants, m.duration, m.endDate,
+            m.location, m.latitude, m.longitude, m.title, m.description, m.goal, m.otherInfo,
+            m.isConfirmed, m.updatedAt, m.likeCount,
+            c.username, c.nickname, c.profileImage, ts.name,
+            (SELECT a.status FROM ApplicationEntity a
+                WHERE a.meeting = m AND a.applicant.username = :username),
+            (SELECT COUNT(l) FROM LikeEntity l
+                WHERE l.meeting = m AND l.user.username = :username))
+        FROM MeetingEntity m
+        JOIN m.creator c
+        LEFT JOIN MeetingTechStackEntity mts ON mts.meeting = m
+        LEFT JOIN mts.techStack ts
+        WHERE m.id = :meetingId
+        ORDER BY mts.id
+    """)
+    List<MeetingDetailRow> findDetailRowsById(@Param("meetingId") Long meetingId, @Param("username") String username);
+
+    // 모임 상세 캐시 적중 시 조회자별 상태와 좋아요 수만 조회
+    @Query("""
+        SELECT new com.example.starhub.repository.projection.MeetingViewerState(
+            (SELECT a.status FROM ApplicationEntity a
+                WHERE a.meeting = m AND a.applicant.username = :username),
+            (SELECT COUNT(l) FROM LikeEntity l
+                WHERE l.meeting = m AND l.user.username = :username),
+            m.likeCount)
+        FROM MeetingEntity m
+        WHERE m.id = :meetingId
+    """)
+    Optional<MeetingViewerState> findViewerStateById(@Param("meetingId") Long meetingId, @Param("username") String username);
+
+    // 모임 요약 프로젝션 컬럼 (TEXT 컬럼 제외)
+    String SUMMARY_COLUMNS = """
+        m.id AS id, m.title AS title, m.recruitmentType AS recruitmentType,
+        m.maxParticipants AS maxParticipants, m.duration AS duration, m.endDate AS endDate,
+        m.location AS location, m.latitude AS latitude, m.longitude AS longitude, m.likeCount AS likeCount
+    """;
+
+    // 전체 모임 목록 - 생성일 내림차순
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM MeetingEntity m ORDER BY m.createdAt DESC, m.id DESC",
+            countQuery = "SELECT COUNT(m) FROM MeetingEntity m")
+    Page<MeetingSummaryRow> findSummaryPage(Pageable pageable);
+
+    // 커서 기반 페이지네이션 - (createdAt, id) 내림차순, COUNT 쿼리 없음
+    @Query("SELECT " + SUMMARY_COLUMNS + """
+        , m.createdAt AS cursorCreatedAt, m.id AS cursorId
+        FROM MeetingEntity m
+        ORDER BY m.createdAt DESC, m.id DESC
+    """)
+    Slice<MeetingSummaryRow> findSummarySlice(Pageable pageable);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + """
+        , m.createdAt AS cursorCreatedAt, m.id AS cursorId
+        FROM MeetingEntity m
+        WHERE m.createdAt < :createdAt
+            OR (m.createdAt = :createdAt AND m.id < :id)
+        ORDER BY m.createdAt DESC, m.id DESC
+    """)
+    Slice<MeetingSummaryRow> findSummarySliceAfterCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM MeetingEntity m WHERE m.id IN :meetingIds")
+    List<MeetingSummaryRow> findSummariesByIdIn(@Param("meetingIds") List<Long> meetingIds);
+
+    // 내가 작성한 모임 - 모임 생성일 기준
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM MeetingEntity m WHERE m.creator = :creator ORDER BY m.createdAt DESC, m.id DESC",
+            countQuery = "SELECT COUNT(m) FROM MeetingEntity m WHERE m.creator = :creator")
+    Page<MeetingSummaryRow> findSummaryPageByCreator(@Param("creator") UserEntity creator, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + """
+        , m.createdAt AS cursorCreatedAt, m.id AS cursorId
+        FROM MeetingEntity m
+        WHERE m.creator = :creator
+        ORDER BY m.createdAt DESC, m.id DESC
+    """)
+    Slice<MeetingSummaryRow> findSummarySliceByCreator(@Param("creator") UserEntity creator, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + """
+        , m.createdAt AS cursorCreatedAt, m.id AS cursorId
+        FROM MeetingEntity m
+        WHERE m.creator = :creator
+            AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id))
+        ORDER BY m.createdAt DESC, m.id DESC
+    """)
+    Slice<MeetingSummaryRow> findSummarySliceByCreatorAfterCursor(@Param("creator") UserEntity creator, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 내가 좋아요 누른 모임 - 좋아요 시간 기준
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM LikeEntity l JOIN l.meeting m WHERE l.user = :user ORDER BY l.createdAt DESC, l.id DESC",
+            countQuery = "SELECT COUNT(l) FROM LikeEntity l WHERE l.user = :user")
+    Page<MeetingSummaryRow> findLikedSummaryPage(@Param("user") UserEntity user, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + """
+        , l.createdAt AS cursorCreatedAt, l.id AS cursorId
+        FROM LikeEntity l
+        JOIN l.meeting m
+        WHERE l.user = :user
+        ORDER BY l.createdAt DESC, l.id DESC
+    """)
+    Slice<MeetingSummaryRow> findLikedSummarySlice(@Param("user") UserEntity user, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + """
+        , l.createdAt AS cursorCreatedAt, l.id AS cursorId
+        FROM LikeEntity l
+        JOIN l.meeting m
+        WHERE l.user = :user
+            AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id))
+        ORDER BY l.createdAt DESC, l.id DESC
+    """)
+    Slice<MeetingSummaryRow> findLikedSummarySliceAfterCursor(@Param("user") UserEntity user, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 내가 지원한 모임 - 지원 시간 기준
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM ApplicationEntity a JOIN a.meeting m WHERE a.applicant = :user ORDER BY a.createdAt DESC, a.id DESC",
+            countQuery = "SELECT COUNT(a) FROM ApplicationEntity a WHERE a.applicant = :user")
+    Page<MeetingSummaryRow> findAppliedSummaryPage(@Param("user") UserEntity user, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + """
+        , a.createdAt AS cursorCreatedAt, a.id AS cursorId
+        FROM ApplicationEntity a
+        JOIN a.meeting m
+        WHERE a.applicant = :user
+        ORDER BY a.createdAt DESC, a.id DESC
+    """)
+    Slice<MeetingSummaryRow> findAppliedSummarySlice(@Param("user") UserEntity user, Pageable pageable);
+
+    @Query("SELECT " + SUMMARY_COLUMNS + """
+        , a.createdAt AS cursorCreatedAt, a.id AS cursorId
+        FROM ApplicationEntity a
+        JOIN a.meeting m
+        WHERE a.applicant = :user
+            AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+        ORDER BY a.createdAt DESC, a.id DESC
+    """)
+    Slice<MeetingSummaryRow> findAppliedSummarySliceAfterCursor(@Param("user") UserEntity user, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     @Query("""
         SELECT m.id 
         FROM MeetingEntity m
-        LEFT JOIN LikeEntity l ON l.meeting = m
         WHERE m.endDate > CURRENT_TIMESTAMP
             AND m.isConfirmed = false
-        GROUP BY m.id
-        ORDER BY m.endDate ASC, COUNT(l) DESC
+        ORDER BY m.endDate ASC, m.likeCount DESC
     """)
     List<Long> findTop3ExpiringPopularMeetingsIds(Pageable pageable);
 
     @Query("""
         SELECT m.id 
         FROM MeetingEntity m
-        LEFT JOIN LikeEntity l ON l.meeting = m
         WHERE m.recruitmentType = :recruitmentType 
             AND m.isConfirmed = false
-        GROUP BY m.id
-        ORDER BY COUNT(l) DESC
+        ORDER BY m.likeCount DESC
     """)
     List<Long> findTop3PopularMeetingIds(@Param("recruitmentType") RecruitmentType recruitmentType, Pageable pageable);
 
+    @Query("""
+        SELECT m.id AS id, m.recruitmentType AS recruitmentType, m.endDate AS endDate,
+            m.likeCount AS likeCount, m.isConfirmed AS isConfirmed
+        FROM MeetingEntity m
+        WHERE m.isConfirmed = false
+    """)
+    List<PopularMeetingScore> findPopularMeetingScores();
+
+    @Query("""
+        SELECT m.id AS id, m.recruitmentType AS recruitmentType, m.endDate AS endDate,
+            m.likeCount AS likeCount, m.isConfirmed AS isConfirmed
+        FROM MeetingEntity m
+        WHERE m.id = :meetingId
+    """)
+    Optional<PopularMeetingScore> findPopularMeetingScoreById(@Param("meetingId") Long meetingId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MeetingEntity m SET m.likeCount = m.likeCount + 1 WHERE m.id = :meetingId")
+    int increaseLikeCount(@Param("meetingId") Long meetingId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MeetingEntity m SET m.likeCount = m.likeCount - 1 WHERE m.id = :meetingId AND m.likeCount > 0")
+    int decreaseLikeCount(@Param("meetingId") Long meetingId);
+
+    // 모임 패싯 인덱스 - 전체 로딩
+    @Query("""
+        SELECT new com.example.starhub.repository.projection.MeetingFacetRow(
+            m.id, m.recruitmentType, m.duration, m.isConfirmed)
+        FROM MeetingEntity m
+    """)
+    List<MeetingFacetRow> findAllFacetRows();
+
+    // 모임 패싯 인덱스 - 변경된 모임 하나 갱신
+    @Query("""
+        SELECT new com.example.starhub.repository.projection.MeetingFacetRow(
+            m.id, m.recruitmentType, m.duration, m.isConfirmed)
+        FROM MeetingEntity m
+        WHERE m.id = :meetingId
+    """)
+    Optional<MeetingFacetRow> findFacetRowById(@Param("meetingId") Long meetingId);
+
+    // 근처 모임 - 격자 칸 인덱스로 후보를 좁힌 뒤 실제 거리(미터)로 거르고 가까운 순 정렬
+    @Query(value = """
+        SELECT m.id AS id,
+            ST_Distance_Sphere(POINT(m.longitude, m.latitude), POINT(:longitude, :latitude)) AS distance
+        FROM meeting_entity m
+        WHERE m.geo_cell IN (:cells)
+            AND m.latitude BETWEEN :minLatitude AND :maxLatitude
+            AND m.longitude BETWEEN :minLongitude AND :maxLongitude
+            AND ST_Distance_Sphere(POINT(m.longitude, m.latitude), POINT(:longitude, :latitude)) <= :radius
+        ORDER BY distance, m.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<NearbyMeetingDistance> findNearbyMeetings(@Param("latitude") double latitude,
+                                                   @Param("longitude") double longitude,
+                                                   @Param("radius") double radius,
+                                                   @Param("cells") List<Integer> cells,
+                                                   @Param("minLatitude") double minLatitude,
+                                                   @Param("maxLatitude") double maxLatitude,
+                                                   @Param("minLongitude") double minLongitude,
+                                                   @Param("maxLongitude") double maxLongitude,
+                                                   @Param("limit") int limit);
+
+    // 근처 모임 (고위도) - 칸 수가 많으면 IN 절 대신 행 범위로 인덱스를 조회
+    @Query(value = """
+        SELECT m.id AS id,
+            ST_Distance_Sphere(POINT(m.longitude, m.latitude), POINT(:longitude, :latitude)) AS distance
+        FROM meeting_entity m
+        WHERE m.geo_cell BETWEEN :minCell AND :maxCell
+            AND m.latitude BETWEEN :minLatitude AND :maxLatitude
+            AND m.longitude BETWEEN :minLongitude AND :maxLongitude
+            AND ST_Distance_Sphere(POINT(m.longitude, m.latitude), POINT(:longitude, :latitude)) <= :radius
+        ORDER BY distance, m.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<NearbyMeetingDistance> findNearbyMeetingsInCellRange(@Param("latitude") double latitude,
+                                                              @Param("longitude") double longitude,
+                                                              @Param("radius") double radius,
+                                                              @Param("minCell") int minCell,
+                                                              @Param("maxCell") int maxCell,
+                                                              @Param("minLatitude") double minLatitude,
+                                                              @Param("maxLatitude") double maxLatitude,
+                                                              @Param("minLongitude") double minLongitude,
+                                                              @Param("maxLongitude") double maxLongitude,
+                                                              @Param("limit") int limit);
+
+    // 격자 칸 번호가 없는 모임(컬럼 추가 이전 데이터)의 칸 번호 계산 - GeoGrid.cellOf와 같은 식
+    @Modifying
+    @Query(value = """
+        UPDATE meeting_entity
+        SET geo_cell = LEAST(3599, FLOOR((latitude + 90) / 0.05)) * 7200 + LEAST(7199, FLOOR((longitude + 180) / 0.05))
+        WHERE geo_cell IS NULL
+            AND latitude IS NOT NULL
+            AND longitude IS NOT NULL
+    """, nativeQuery = true)
+    int backfillGeoCells();
+
+    // 좋아요 수 컬럼 추가 이전 데이터 포함, 좋아요 테이블 기준으로 좋아요 수를 다시 계산
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        UPDATE meeting_entity m
+        SET m.like_count = (SELECT COUNT(*) FROM like_entity l WHERE l.meeting_id = m.id)
+    """, nativeQuery = true)
+    int backfillLikeCounts();
+
+    // 연관 데이터를 벌크 삭제한 뒤 호출 - 영속성 컨텍스트에 남은 연관 엔티티도 함께 비움
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MeetingEntity m WHERE m.id = :meetingId")
+    int deleteMeetingById(@Param("meetingId") Long meetingId);
+
 }
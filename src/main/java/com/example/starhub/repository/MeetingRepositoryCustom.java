@@ -0,0 +1,19 @@
+package com.example.starhub.repository;
+
+import com.example.starhub.entity.MeetingEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface MeetingRepositoryCustom {
+
+    /**
+     * 조건에 맞는 모임 아이디를 생성일, 아이디 내림차순으로 조회합니다.
+     * - 아이디만 조회하므로 필터 인덱스만으로 처리되고, 요약 컬럼은 아이디로 따로 조회합니다.
+     *
+     * @param specification 필터 조건
+     * @param pageable 페이지 정보 (정렬은 무시)
+     * @return 모임 아이디 페이지
+     */
+    Page<Long> findMeetingIds(Specification<MeetingEntity> specification, Pageable pageable);
+}
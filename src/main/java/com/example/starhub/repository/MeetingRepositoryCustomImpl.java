@@ -0,0 +1,59 @@
+package com.example.starhub.repository;
+
+import com.example.starhub.entity.MeetingEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MeetingRepositoryCustomImpl implements MeetingRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Long> findMeetingIds(Specification<MeetingEntity> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<MeetingEntity> meeting = query.from(MeetingEntity.class);
+        query.select(meeting.get("id"))
+                .orderBy(cb.desc(meeting.get("createdAt")), cb.desc(meeting.get("id")));
+        applyPredicate(specification, meeting, query, cb);
+
+        List<Long> meetingIds = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 마지막 페이지처럼 전체 개수를 알 수 있으면 COUNT 쿼리 생략
+        return PageableExecutionUtils.getPage(meetingIds, pageable, () -> count(specification));
+    }
+
+    private long count(Specification<MeetingEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<MeetingEntity> meeting = query.from(MeetingEntity.class);
+        query.select(cb.count(meeting));
+        applyPredicate(specification, meeting, query, cb);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void applyPredicate(Specification<MeetingEntity> specification, Root<MeetingEntity> meeting,
+                                CriteriaQuery<Long> query, CriteriaBuilder cb) {
+        Predicate predicate = specification.toPredicate(meeting, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.example.starhub.repository;
 
 import com.example.starhub.entity.MeetingEntity;
 import com.example.starhub.entity.MeetingTechStackEntity;
+import com.example.starhub.repository.projection.MeetingTechStackId;
+import com.example.starhub.repository.projection.MeetingTechStackLink;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,7 +13,11 @@ import java.util.List;
 
 public interface MeetingTechStackRepository extends JpaRepository<MeetingTechStackEntity, Long> {
     List<MeetingTechStackEntity> findByMeeting(MeetingEntity post);
-    void deleteByMeeting(MeetingEntity post);
+
+    // 모임의 기술 스택 연결을 DELETE 한 번으로 삭제 (엔티티를 하나씩 로딩하지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MeetingTechStackEntity mts WHERE mts.meeting.id = :meetingId")
+    int deleteAllByMeetingId(@Param("meetingId") Long meetingId);
 
     @Query("""
         SELECT mts FROM MeetingTechStackEntity mts
@@ -20,4 +27,20 @@ public interface MeetingTechStackRepository extends JpaRepository<MeetingTechSta
     """)
     List<MeetingTechStackEntity> findMeetingTechStacksByMeetingIds(@Param("meetingIds") List<Long> meetingIds);
 
+    // 기술 스택 테이블 조인 없이 외래 키만 조회
+    @Query("""
+        SELECT mts.meeting.id AS meetingId, mts.techStack.id AS techStackId
+        FROM MeetingTechStackEntity mts
+        WHERE mts.meeting.id IN :meetingIds
+        ORDER BY mts.id
+    """)
+    List<MeetingTechStackId> findTechStackIdsByMeetingIds(@Param("meetingIds") List<Long> meetingIds);
+
+    // 모임 패싯 인덱스 전체 로딩 - 연결 테이블의 아이디 쌍만 조회
+    @Query("""
+        SELECT new com.example.starhub.repository.projection.MeetingTechStackLink(mts.meeting.id, mts.techStack.id)
+        FROM MeetingTechStackEntity mts
+    """)
+    List<MeetingTechStackLink> findAllLinks();
+
 }
@@ -4,11 +4,12 @@ import com.example.starhub.entity.TechStackEntity;
 import com.example.starhub.entity.enums.TechCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TechStackRepository extends JpaRepository<TechStackEntity, Long> {
+public interface TechStackRepository extends JpaRepository<TechStackEntity, Long>, TechStackRepositoryCustom {
     Optional<TechStackEntity> findByName(String name);
     List<TechStackEntity> findByCategoryNot(TechCategory category);
-    List<TechStackEntity> findAllByNameIn(List<String> names);
+    List<TechStackEntity> findAllByNameIn(Collection<String> names);
 }
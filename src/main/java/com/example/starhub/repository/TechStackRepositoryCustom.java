@@ -0,0 +1,18 @@
+package com.example.starhub.repository;
+
+import com.example.starhub.entity.enums.TechCategory;
+
+import java.util.Collection;
+
+public interface TechStackRepositoryCustom {
+
+    /**
+     * 기술 스택을 JDBC 배치로 한 번에 추가합니다.
+     * - 이미 존재하는 이름(동시에 다른 요청이 추가한 경우 포함)은 unique 제약 예외 없이 무시합니다.
+     * - 중복 키 외의 오류(길이 초과 등)는 그대로 예외가 발생합니다.
+     *
+     * @param names 추가할 기술 스택 이름 목록
+     * @param category 카테고리
+     */
+    void insertAllIfAbsent(Collection<String> names, TechCategory category);
+}
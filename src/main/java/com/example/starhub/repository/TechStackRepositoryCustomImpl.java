@@ -0,0 +1,27 @@
+package com.example.starhub.repository;
+
+import com.example.starhub.entity.enums.TechCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TechStackRepositoryCustomImpl implements TechStackRepositoryCustom {
+
+    // INSERT IGNORE는 데이터 오류(길이 초과, NULL)까지 경고로 바꾸므로 중복 키만 무시
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO tech_stack_entity (name, category) VALUES (?, ?) ON DUPLICATE KEY UPDATE name = name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAllIfAbsent(Collection<String> names, TechCategory category) {
+        List<Object[]> batchArgs = names.stream()
+                .map(name -> new Object[]{name, category.name()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.starhub.repository.projection;
+
+import com.example.starhub.entity.enums.ApplicationStatus;
+
+/**
+ * 모임 확정 시 승인할 지원서와 지원자 정보 (생성자 프로젝션)
+ *
+ * @param applicationId 지원서 아이디
+ * @param status 지원서의 현재 상태
+ */
+public record ConfirmedMemberRow(Long applicationId,
+                                 ApplicationStatus status,
+                                 String name,
+                                 String profileImage,
+                                 String nickname,
+                                 Integer age,
+                                 String bio,
+                                 String phoneNumber,
+                                 String email) {
+}
@@ -0,0 +1,42 @@
+package com.example.starhub.repository.projection;
+
+import com.example.starhub.entity.enums.ApplicationStatus;
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 모임 상세 조회 결과 한 행 (생성자 프로젝션)
+ * - 모임, 개설자, 기술 스택 하나와 조회자별 상태(지원 상태, 좋아요 여부)를 함께 담습니다.
+ * - 기술 스택 수만큼 행이 반복되며, 기술 스택이 없으면 techStackName이 null인 한 행입니다.
+ */
+public record MeetingDetailRow(
+        Long id,
+        RecruitmentType recruitmentType,
+        Integer maxParticipants,
+        Duration duration,
+        LocalDate endDate,
+        String location,
+        Double latitude,
+        Double longitude,
+        String title,
+        String description,
+        String goal,
+        String otherInfo,
+        Boolean isConfirmed,
+        LocalDateTime updatedAt,
+        Long likeCount,
+        String creatorUsername,
+        String creatorNickname,
+        String creatorProfileImage,
+        String techStackName,
+        ApplicationStatus applicationStatus,
+        Long likedCount
+) {
+
+    public MeetingViewerState toViewerState() {
+        return new MeetingViewerState(applicationStatus, likedCount, likeCount);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.starhub.repository.projection;
+
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+
+/**
+ * 모임 패싯 인덱스에 담는 모임 속성 (생성자 프로젝션)
+ */
+public record MeetingFacetRow(Long id,
+                              RecruitmentType recruitmentType,
+                              Duration duration,
+                              Boolean isConfirmed) {
+}
@@ -0,0 +1,45 @@
+package com.example.starhub.repository.projection;
+
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록(요약) 조회에 필요한 컬럼만 담은 프로젝션
+ * - description, goal, otherInfo 같은 TEXT 컬럼은 조회하지 않습니다.
+ * - 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고 변경 감지 대상도 아닙니다.
+ */
+public interface MeetingSummaryRow {
+
+    Long getId();
+
+    String getTitle();
+
+    RecruitmentType getRecruitmentType();
+
+    Integer getMaxParticipants();
+
+    Duration getDuration();
+
+    LocalDate getEndDate();
+
+    String getLocation();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Long getLikeCount();
+
+    /**
+     * 커서 기준 시간 (모임 목록은 모임 생성일, 좋아요/지원 목록은 좋아요/지원 시간)
+     */
+    LocalDateTime getCursorCreatedAt();
+
+    /**
+     * 커서 기준 아이디 (모임 목록은 모임 아이디, 좋아요/지원 목록은 좋아요/지원서 아이디)
+     */
+    Long getCursorId();
+}
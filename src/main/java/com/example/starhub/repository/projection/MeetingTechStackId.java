@@ -0,0 +1,11 @@
+package com.example.starhub.repository.projection;
+
+/**
+ * 모임 아이디와 연결된 기술 스택 아이디 (이름은 기술 스택 사전에서 조회)
+ */
+public interface MeetingTechStackId {
+
+    Long getMeetingId();
+
+    Long getTechStackId();
+}
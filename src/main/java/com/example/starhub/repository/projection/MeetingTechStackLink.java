@@ -0,0 +1,7 @@
+package com.example.starhub.repository.projection;
+
+/**
+ * 모임과 기술 스택 연결 (생성자 프로젝션, 패싯 인덱스 전체 로딩용)
+ */
+public record MeetingTechStackLink(Long meetingId, Long techStackId) {
+}
@@ -0,0 +1,17 @@
+package com.example.starhub.repository.projection;
+
+import com.example.starhub.entity.enums.ApplicationStatus;
+
+/**
+ * 모임에 대한 조회자별 상태와 좋아요 수 (생성자 프로젝션)
+ *
+ * @param applicationStatus 조회자의 지원 상태 (지원하지 않았으면 null)
+ * @param likedCount 조회자의 좋아요 수 (0 또는 1)
+ * @param likeCount 모임의 좋아요 수
+ */
+public record MeetingViewerState(ApplicationStatus applicationStatus, Long likedCount, Long likeCount) {
+
+    public boolean isLiked() {
+        return likedCount != null && likedCount > 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.starhub.repository.projection;
+
+/**
+ * 근처 모임 검색 결과 (모임 아이디와 중심 좌표로부터의 거리)
+ */
+public interface NearbyMeetingDistance {
+
+    Long getId();
+
+    Double getDistance();
+}
@@ -0,0 +1,21 @@
+package com.example.starhub.repository.projection;
+
+import com.example.starhub.entity.enums.RecruitmentType;
+
+import java.time.LocalDate;
+
+/**
+ * 인기글 순위 계산에 필요한 모임 정보
+ */
+public interface PopularMeetingScore {
+
+    Long getId();
+
+    RecruitmentType getRecruitmentType();
+
+    LocalDate getEndDate();
+
+    Long getLikeCount();
+
+    Boolean getIsConfirmed();
+}
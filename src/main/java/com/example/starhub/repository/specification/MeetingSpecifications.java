@@ -0,0 +1,79 @@
+package com.example.starhub.repository.specification;
+
+import com.example.starhub.entity.MeetingEntity;
+import com.example.starhub.entity.MeetingTechStackEntity;
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 모임 목록 필터 조건
+ * - 값이 없으면 null을 반환하고, Specification.where/and 조합 시 해당 조건은 빠집니다.
+ * - 각 조건은 인덱스 컬럼을 그대로 비교하도록 작성합니다. (컬럼에 함수를 씌우지 않음)
+ */
+public final class MeetingSpecifications {
+
+    private MeetingSpecifications() {
+    }
+
+    // idx_meeting_type_confirmed_created_at
+    public static Specification<MeetingEntity> recruitmentTypeEquals(RecruitmentType recruitmentType) {
+        if (recruitmentType == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("recruitmentType"), recruitmentType);
+    }
+
+    // idx_meeting_type_confirmed_created_at, idx_meeting_expiring_popular
+    public static Specification<MeetingEntity> isConfirmedEquals(Boolean isConfirmed) {
+        if (isConfirmed == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("isConfirmed"), isConfirmed);
+    }
+
+    // idx_meeting_duration_created_at
+    public static Specification<MeetingEntity> durationEquals(Duration duration) {
+        if (duration == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("duration"), duration);
+    }
+
+    // idx_meeting_end_date, idx_meeting_expiring_popular
+    public static Specification<MeetingEntity> endDateBetween(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        if (to == null) {
+            return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("endDate"), from);
+        }
+        if (from == null) {
+            return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("endDate"), to);
+        }
+        return (root, query, cb) -> cb.between(root.get("endDate"), from, to);
+    }
+
+    /**
+     * 기술 스택 중 하나라도 포함한 모임
+     * - 조인 대신 IN 서브쿼리로 작성해 모임이 중복되지 않도록 함 (DISTINCT 불필요)
+     * - 서브쿼리는 idx_meeting_tech_stack_tech_stack (tech_stack_id, meeting_id)만으로 처리
+     */
+    public static Specification<MeetingEntity> hasAnyTechStack(Collection<Long> techStackIds) {
+        if (techStackIds == null || techStackIds.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<MeetingTechStackEntity> meetingTechStack = subquery.from(MeetingTechStackEntity.class);
+            subquery.select(meetingTechStack.get("meeting").get("id"))
+                    .where(meetingTechStack.get("techStack").get("id").in(techStackIds));
+            return root.get("id").in(subquery);
+        };
+    }
+}
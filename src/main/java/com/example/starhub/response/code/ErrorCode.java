@@ -16,6 +16,9 @@ public enum ErrorCode {
     STUDY_CONFIRMED(HttpStatus.BAD_REQUEST, "스터디원이 확정된 상태입니다."),
     STUDY_NOT_CONFIRMED(HttpStatus.BAD_REQUEST, "스터디원이 확정되지 않은 상태입니다."),
     INVALID_APPLICATION_ID(HttpStatus.BAD_REQUEST, "잘못된 지원서 ID가 포함되었습니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    INVALID_COORDINATE(HttpStatus.BAD_REQUEST, "잘못된 위치 좌표입니다."),
+    INVALID_TECH_STACK_NAME(HttpStatus.BAD_REQUEST, "잘못된 기술 스택 이름이 포함되었습니다."),
 
     /**
      * 401 UNAUTHORIZED
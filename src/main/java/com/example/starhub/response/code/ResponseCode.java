@@ -47,6 +47,9 @@ public enum ResponseCode {
     SUCCESS_GET_POPULAR_PROJECTS(HttpStatus.OK, "프로젝트 인기글을 성공적으로 불러왔습니다."),
     SUCCESS_GET_POPULAR_STUDIES(HttpStatus.OK, "스터디 인기글을 성공적으로 불러왔습니다."),
     SUCCESS_GET_POPULAR_EXPIRING(HttpStatus.OK, "마감임박 인기글을 성공적으로 불러왔습니다."),
+    SUCCESS_SEARCH_MEETINGS(HttpStatus.OK, "모임 검색 결과를 성공적으로 불러왔습니다."),
+    SUCCESS_GET_NEARBY_MEETINGS(HttpStatus.OK, "근처 모임 목록을 성공적으로 불러왔습니다."),
+    SUCCESS_GET_MEETING_FACETS(HttpStatus.OK, "모임 패싯 개수를 성공적으로 불러왔습니다."),
 
     /**
      * APPLICANT
@@ -69,6 +72,15 @@ public enum ResponseCode {
     SUCCESS_CREATE_LIKE(HttpStatus.CREATED, "좋아요를 성공적으로 생성되었습니다."),
     SUCCESS_DELETE_LIKE(HttpStatus.OK, "좋아요를 성공적으로 삭제되었습니다."),
 
+    /**
+     * ADMIN
+     */
+    SUCCESS_REBUILD_POPULAR_LEADERBOARD(HttpStatus.OK, "인기글 순위표를 성공적으로 재구성했습니다."),
+    SUCCESS_VERIFY_POPULAR_LEADERBOARD(HttpStatus.OK, "인기글 순위표 검증을 완료했습니다."),
+    SUCCESS_REBUILD_MEETING_SEARCH_INDEX(HttpStatus.OK, "모임 검색 인덱스를 성공적으로 재구성했습니다."),
+    SUCCESS_BACKFILL_MEETING_GEO_CELLS(HttpStatus.OK, "모임 위치 격자 칸 번호를 성공적으로 채웠습니다."),
+    SUCCESS_BACKFILL_MEETING_LIKE_COUNTS(HttpStatus.OK, "모임 좋아요 수를 성공적으로 채웠습니다."),
+
     ;
 
     private final HttpStatus status;
@@ -3,6 +3,8 @@ package com.example.starhub.service;
 import com.example.starhub.entity.LikeEntity;
 import com.example.starhub.entity.MeetingEntity;
 import com.example.starhub.entity.UserEntity;
+import com.example.starhub.event.MeetingChangeType;
+import com.example.starhub.event.MeetingChangedEvent;
 import com.example.starhub.exception.LikeAlreadyExistsException;
 import com.example.starhub.exception.LikeNotFoundException;
 import com.example.starhub.exception.MeetingNotFoundException;
@@ -12,6 +14,7 @@ import com.example.starhub.repository.MeetingRepository;
 import com.example.starhub.repository.UserRepository;
 import com.example.starhub.response.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +26,7 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final MeetingRepository meetingRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 공통 검증 로직: 모임 가져오기
@@ -60,6 +64,11 @@ public class LikeService {
         LikeEntity likeEntity = LikeEntity.createLike(userEntity, meetingEntity);
 
         likeRepository.save(likeEntity);
+
+        // 좋아요 수 원자적 증가 (동시 요청에도 갱신 손실 없음)
+        meetingRepository.increaseLikeCount(meetingId);
+
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, MeetingChangeType.LIKED));
     }
 
     /**
@@ -77,5 +86,10 @@ public class LikeService {
                 .orElseThrow(() -> new LikeNotFoundException(ErrorCode.LIKE_NOT_FOUND));
 
         likeRepository.delete(likeEntity);
+
+        // 좋아요 수 원자적 감소
+        meetingRepository.decreaseLikeCount(meetingId);
+
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, MeetingChangeType.UNLIKED));
     }
 }
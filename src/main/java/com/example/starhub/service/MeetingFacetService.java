@@ -0,0 +1,67 @@
+package com.example.starhub.service;
+
+import com.example.starhub.dto.response.MeetingFacetResponseDto;
+import com.example.starhub.dto.response.TechStackFacetDto;
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.service.cache.TechStackDictionary;
+import com.example.starhub.service.cache.TechStackDictionary.TechStackEntry;
+import com.example.starhub.service.facet.MeetingFacetCounts;
+import com.example.starhub.service.facet.MeetingFacetIndex;
+import com.example.starhub.service.facet.MeetingFacetIndexUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class MeetingFacetService {
+
+    private final MeetingFacetIndex meetingFacetIndex;
+    private final MeetingFacetIndexUpdater meetingFacetIndexUpdater;
+    private final TechStackDictionary techStackDictionary;
+
+    /**
+     * 모임 패싯 개수 불러오기
+     * - DB 집계 없이 인스턴스 내부 비트맵 인덱스로 계산
+     * - 각 패싯의 개수는 자기 자신을 제외한 나머지 조건을 적용한 값
+     *
+     * @param recruitmentType 모집 구분 (선택)
+     * @param duration 진행 기간 (선택)
+     * @param isConfirmed 확정 여부 (선택)
+     * @param techStackIds 기술 스택 아이디 목록 (선택, 하나라도 포함)
+     * @return 패싯 값별 모임 수
+     */
+    public MeetingFacetResponseDto getMeetingFacets(RecruitmentType recruitmentType, Duration duration,
+                                                    Boolean isConfirmed, List<Long> techStackIds) {
+        if (!meetingFacetIndex.isLoaded()) {
+            meetingFacetIndexUpdater.reload();
+        }
+
+        MeetingFacetCounts counts = meetingFacetIndex.count(recruitmentType, duration, isConfirmed, techStackIds);
+
+        Map<Long, TechStackEntry> techStacks = techStackDictionary.getAll(counts.techStacks().keySet());
+        List<TechStackFacetDto> techStackFacets = counts.techStacks().entrySet().stream()
+                .filter(entry -> techStacks.containsKey(entry.getKey()))
+                .map(entry -> TechStackFacetDto.builder()
+                        .id(entry.getKey())
+                        .name(techStacks.get(entry.getKey()).name())
+                        .count(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparing(TechStackFacetDto::getCount).reversed()
+                        .thenComparing(TechStackFacetDto::getId))
+                .toList();
+
+        return MeetingFacetResponseDto.builder()
+                .total(counts.total())
+                .techStacks(techStackFacets)
+                .recruitmentTypes(counts.recruitmentTypes())
+                .durations(counts.durations())
+                .open(counts.open())
+                .confirmed(counts.confirmed())
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.starhub.service;
+
+import com.example.starhub.dto.response.MeetingSummaryResponseDto;
+import com.example.starhub.entity.MeetingEntity;
+import com.example.starhub.service.assembler.MeetingSummaryAssembler;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MeetingSearchService {
+
+    private final EntityManager entityManager;
+    private final MeetingSummaryAssembler meetingSummaryAssembler;
+
+    /**
+     * 모임 검색하기
+     * - 제목, 소개, 목표, 진행 장소, 기술 스택 이름을 대상으로 전문 검색 (관련도 순)
+     * - 제목과 기술 스택 이름이 일치하면 더 높은 점수를 줍니다.
+     * - 인덱스에서는 모임 아이디만 가져오고, 요약 정보는 목록 API와 같은 방식으로 조립합니다.
+     *
+     * @param username 사용자명 (익명 사용자일 경우 null)
+     * @param query 검색어 (공백으로 구분된 단어는 모두 포함, "문구" 검색 지원)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 모임 요약 정보가 담긴 DTO 리스트 - 페이지네이션 적용
+     */
+    public Page<MeetingSummaryResponseDto> searchMeetings(String username, String query, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageRequest);
+        }
+
+        SearchResult<Long> result = Search.session(entityManager)
+                .search(MeetingEntity.class)
+                .select(f -> f.id(Long.class))
+                .where(f -> f.simpleQueryString()
+                        .field("title").boost(3.0f)
+                        .field("meetingTechStacks.techStack.name").boost(2.0f)
+                        .fields("description", "goal", "location")
+                        .matching(query)
+                        .defaultOperator(BooleanOperator.AND))
+                .fetch((int) pageRequest.getOffset(), pageRequest.getPageSize());
+
+        // 인덱스 반영 전에 삭제된 모임은 조립 단계에서 제외됨
+        List<MeetingSummaryResponseDto> summaries = meetingSummaryAssembler.toSummariesByIds(result.hits(), username);
+        return new PageImpl<>(summaries, pageRequest, result.total().hitCount());
+    }
+}
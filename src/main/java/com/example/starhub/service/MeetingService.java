@@ -2,23 +2,45 @@ package com.example.starhub.service;
 
 import com.example.starhub.dto.request.ConfirmMeetingRequestDto;
 import com.example.starhub.dto.request.CreateMeetingRequestDto;
+import com.example.starhub.dto.request.MeetingFilterRequestDto;
 import com.example.starhub.dto.request.UpdateMeetingRequestDto;
 import com.example.starhub.dto.response.*;
 import com.example.starhub.entity.*;
 import com.example.starhub.entity.enums.ApplicationStatus;
 import com.example.starhub.entity.enums.RecruitmentType;
 import com.example.starhub.entity.enums.TechCategory;
+import com.example.starhub.event.MeetingChangeType;
+import com.example.starhub.event.MeetingChangedEvent;
+import com.example.starhub.event.TechStackChangedEvent;
 import com.example.starhub.exception.*;
 import com.example.starhub.repository.*;
+import com.example.starhub.repository.projection.ConfirmedMemberRow;
+import com.example.starhub.repository.projection.MeetingDetailRow;
+import com.example.starhub.repository.projection.MeetingSummaryRow;
+import com.example.starhub.repository.projection.MeetingViewerState;
+import com.example.starhub.repository.projection.NearbyMeetingDistance;
+import com.example.starhub.repository.specification.MeetingSpecifications;
+import com.example.starhub.service.assembler.MeetingSummaryAssembler;
+import com.example.starhub.service.cache.MeetingDetailCache;
+import com.example.starhub.service.cache.MeetingDetailSnapshot;
+import com.example.starhub.service.cache.TechStackDictionary;
+import com.example.starhub.service.cache.TechStackDictionary.TechStackEntry;
+import com.example.starhub.util.Cursor;
+import com.example.starhub.util.GeoGrid;
 import com.example.starhub.response.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,12 +48,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MeetingService {
 
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+    private static final int MAX_NEARBY_SIZE = 100;
+
     private final MeetingRepository meetingRepository;
     private final UserRepository userRepository;
     private final TechStackRepository techStackRepository;
     private final MeetingTechStackRepository meetingTechStackRepository;
     private final LikeRepository likeRepository;
     private final ApplicationRepository applicationRepository;
+    private final MeetingSummaryAssembler meetingSummaryAssembler;
+    private final MeetingDetailCache meetingDetailCache;
+    private final TechStackDictionary techStackDictionary;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 공통 검증 로직: 게시글 가져오기 및 상태 확인
@@ -91,6 +120,8 @@ public class MeetingService {
         // 기술 스택 정보를 처리하여 모임와 연결
         List<String> techStackNames = saveMeetingTechStacks(savedMeeting, createMeetingRequestDto);
 
+        eventPublisher.publishEvent(new MeetingChangedEvent(savedMeeting.getId(), MeetingChangeType.CREATED));
+
         return MeetingResponseDto.fromEntity(savedMeeting, techStackNames);
     }
 
@@ -105,20 +136,117 @@ public class MeetingService {
      * @return 모임 목록 응답 DTO
      */
     public Page<MeetingSummaryResponseDto> getMeetingList(String username, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
-        Page<MeetingEntity> meetingPage = meetingRepository.findAll(pageRequest);
+        // 정렬(생성일 내림차순)은 쿼리에 포함되어 있음
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Page<MeetingSummaryRow> meetingPage = meetingRepository.findSummaryPage(pageRequest);
+
+        return meetingSummaryAssembler.toSummaryPage(meetingPage, username);
+    }
+
+    /**
+     * 모임 목록 불러오기 - 필터 적용
+     * - 값이 있는 조건만 조합해 아이디를 먼저 조회하고, 요약 정보는 아이디로 조회
+     * - 조건이 없으면 전체 모임 목록과 동일
+     *
+     * @param username JWT를 통해 인증된 사용자명
+     * @param filter 필터 조건
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 모임 목록 응답 DTO
+     */
+    public Page<MeetingSummaryResponseDto> getMeetingList(String username, MeetingFilterRequestDto filter, int page, int size) {
+        if (filter == null || !filter.hasCondition()) {
+            return getMeetingList(username, page, size);
+        }
+
+        PageRequest pageRequest = PageRequest.of(page, size);
+        Page<Long> meetingIdPage = meetingRepository.findMeetingIds(buildMeetingSpecification(filter), pageRequest);
+
+        List<MeetingSummaryResponseDto> summaries = meetingSummaryAssembler.toSummariesByIds(meetingIdPage.getContent(), username);
+        return new PageImpl<>(summaries, pageRequest, meetingIdPage.getTotalElements());
+    }
+
+    /**
+     * 모임 목록 불러오기 - 커서 기반 (무한 스크롤용)
+     * - 생성일, 아이디 기준 내림차순으로 커서 다음 모임들을 가져옴
+     * - 전체 개수를 세지 않으므로 페이지 깊이와 상관없이 일정한 속도로 조회
+     *
+     * @param username JWT를 통해 인증된 사용자명
+     * @param cursor 이전 응답의 nextCursor (첫 페이지일 경우 null)
+     * @param size 페이지 크기
+     * @return 모임 목록 커서 응답 DTO
+     */
+    public CursorResponseDto<MeetingSummaryResponseDto> getMeetingListByCursor(String username, String cursor, int size) {
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        Slice<MeetingSummaryRow> meetingSlice;
+        if (cursor == null || cursor.isBlank()) {
+            meetingSlice = meetingRepository.findSummarySlice(pageRequest);
+        } else {
+            Cursor decoded = Cursor.decode(cursor);
+            meetingSlice = meetingRepository.findSummarySliceAfterCursor(decoded.createdAt(), decoded.id(), pageRequest);
+        }
+
+        return meetingSummaryAssembler.toCursorResponse(meetingSlice, username);
+    }
+
+    /**
+     * 근처 모임 목록 불러오기
+     * - 반경을 덮는 격자 칸 번호로 인덱스를 조회해 후보를 좁히고, 실제 거리로 걸러 가까운 순으로 정렬
+     * - 반경과 개수는 상한을 넘지 않도록 잘라서 조회
+     *
+     * @param username JWT를 통해 인증된 사용자명
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radius 검색 반경 (미터)
+     * @param size 최대 개수
+     * @return 거리 순으로 정렬된 근처 모임 목록
+     */
+    public List<NearbyMeetingResponseDto> getNearbyMeetings(String username, double latitude, double longitude, double radius, int size) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180 || radius <= 0 || size <= 0) {
+            throw new InvalidCoordinateException(ErrorCode.INVALID_COORDINATE);
+        }
 
-        return meetingPage.map(meetingEntity -> {
-            List<String> techStacks = getTechStacksForMeeting(meetingEntity);
-            LikeDto likeDto = getLikeDtoForMeeting(meetingEntity, username);
+        double boundedRadius = Math.min(radius, MAX_NEARBY_RADIUS_METERS);
+        int boundedSize = Math.min(size, MAX_NEARBY_SIZE);
+
+        GeoGrid.BoundingBox box = GeoGrid.boundingBox(latitude, longitude, boundedRadius);
+        List<NearbyMeetingDistance> nearby;
+        if (GeoGrid.isWithinCellLimit(latitude, longitude, boundedRadius)) {
+            nearby = meetingRepository.findNearbyMeetings(
+                    latitude, longitude, boundedRadius,
+                    GeoGrid.cellsWithin(latitude, longitude, boundedRadius),
+                    box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(),
+                    boundedSize);
+        } else {
+            // 고위도에서는 칸 수가 IN 절 상한을 넘으므로 행 범위로 조회
+            GeoGrid.CellRange range = GeoGrid.rowRangeWithin(latitude, longitude, boundedRadius);
+            nearby = meetingRepository.findNearbyMeetingsInCellRange(
+                    latitude, longitude, boundedRadius,
+                    range.minCell(), range.maxCell(),
+                    box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(),
+                    boundedSize);
+        }
+
+        List<MeetingSummaryResponseDto> summaries = meetingSummaryAssembler.toSummariesByIds(
+                nearby.stream().map(NearbyMeetingDistance::getId).collect(Collectors.toList()), username);
+        Map<Long, MeetingSummaryResponseDto> summaryById = summaries.stream()
+                .collect(Collectors.toMap(MeetingSummaryResponseDto::getId, summary -> summary));
 
-            return MeetingSummaryResponseDto.fromEntity(meetingEntity, techStacks, likeDto);
-        });
+        return nearby.stream()
+                .filter(row -> summaryById.containsKey(row.getId()))
+                .map(row -> NearbyMeetingResponseDto.builder()
+                        .distance(row.getDistance())
+                        .meeting(summaryById.get(row.getId()))
+                        .build())
+                .collect(Collectors.toList());
     }
 
     /**
      * 특정 모임의 상세 정보를 가져옵니다.
      * - 모임의 생성자인지 확인하고, 지원 상태, 기술 스택, 좋아요 정보를 포함한 상세 정보를 반환합니다.
+     * - 조회자와 무관한 모임 정보는 캐시에서 가져오고, 조회자별 정보만 요청마다 조회합니다.
+     * - 캐시 미스 시 모임 정보와 조회자별 정보를 한 번의 쿼리로, 캐시 적중 시 조회자별 정보와 좋아요 수만 한 번의 쿼리로 조회합니다.
      *
      * @param username 모임 상세 정보를 요청한 사용자의 사용자명
      * @param meetingId 모임의 고유 ID
@@ -126,31 +254,75 @@ public class MeetingService {
      */
     public MeetingDetailResponseDto getMeetingDetail(String username, Long meetingId) {
 
-        // 모임 정보와 개설자 정보 같이 가져오기
-        MeetingEntity meetingEntity = meetingRepository.findWithCreatorById(meetingId)
-                .orElseThrow(() -> new MeetingNotFoundException(ErrorCode.MEETING_NOT_FOUND));
+        // 조회자와 무관한 모임 정보 (캐시)
+        MeetingDetailLoader loader = new MeetingDetailLoader(meetingId, username);
+        MeetingDetailSnapshot snapshot = meetingDetailCache.get(meetingId, loader);
 
-        // 사용자 타입: Creator(개설자), Applicant(지원자), Anonymous(익명 사용자)
-        String userType = determineUserType(username, meetingEntity);
+        // 조회자별 상태와 좋아요 수: 캐시 미스였다면 상세 조회 쿼리에서 이미 함께 가져옴
+        MeetingViewerState viewerState = loader.getViewerState()
+                .orElseGet(() -> getViewerState(username, meetingId));
 
-        // 지원 상태 조회
-        ApplicationDetail applicationDetail = getApplicationDetail(username, userType, meetingEntity);
+        // 사용자 타입: Creator(개설자), Applicant(지원자), Anonymous(익명 사용자)
+        String userType = determineUserType(username, snapshot.creatorUsername());
 
-        // 기술 스택 조회
-        List<String> techStacks = getTechStacksForMeeting(meetingEntity);
+        // 지원 상태
+        ApplicationDetail applicationDetail = getApplicationDetail(userType, viewerState);
 
-        // 좋아요 정보
-        LikeDto likeDto = getLikeDtoForMeeting(meetingEntity, username);
+        // 좋아요 정보 - 익명 사용자의 경우 isLiked 정보를 넘기지 않음 -> null
+        LikeDto likeDto = LikeDto.builder()
+                .likeCount(viewerState.likeCount())
+                .isLiked(username != null ? viewerState.isLiked() : null)
+                .build();
 
-        return MeetingDetailResponseDto.fromEntity(
+        return MeetingDetailResponseDto.of(
                 userType,
                 applicationDetail.isApplication(),
                 applicationDetail.applicationStatus(),
-                meetingEntity,
-                techStacks,
+                snapshot.postInfo(),
                 likeDto);
     }
 
+    // 좋아요 수는 캐시하지 않으므로 익명 사용자도 조회 (캐시 적중 후 삭제된 모임은 조회되지 않음)
+    private MeetingViewerState getViewerState(String username, Long meetingId) {
+        return meetingRepository.findViewerStateById(meetingId, username)
+                .orElseThrow(() -> new MeetingNotFoundException(ErrorCode.MEETING_NOT_FOUND));
+    }
+
+    /**
+     * 캐시 미스 시 모임 상세 정보를 한 번의 쿼리로 조회하는 loader
+     * - 조회자와 무관한 부분은 스냅샷으로 캐시에 저장하고, 같은 행에 담긴 조회자별 상태는 보관해 두었다가 바로 사용합니다.
+     */
+    @RequiredArgsConstructor
+    private class MeetingDetailLoader implements Supplier<MeetingDetailSnapshot> {
+
+        private final Long meetingId;
+        private final String username;
+        private MeetingViewerState viewerState;
+
+        @Override
+        public MeetingDetailSnapshot get() {
+            List<MeetingDetailRow> rows = meetingRepository.findDetailRowsById(meetingId, username);
+            if (rows.isEmpty()) {
+                throw new MeetingNotFoundException(ErrorCode.MEETING_NOT_FOUND);
+            }
+
+            MeetingDetailRow row = rows.get(0);
+            List<String> techStacks = rows.stream()
+                    .map(MeetingDetailRow::techStackName)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            viewerState = row.toViewerState();
+            return new MeetingDetailSnapshot(
+                    row.creatorUsername(),
+                    MeetingResponseDto.fromDetailRow(row, techStacks));
+        }
+
+        private Optional<MeetingViewerState> getViewerState() {
+            return Optional.ofNullable(viewerState);
+        }
+    }
+
     /**
      * 모임 수정하기
      * - 개설자만 모임 정보를 수정할 수 있음
@@ -173,6 +345,8 @@ public class MeetingService {
         // 기술 스택 업데이트
         List<String> techStackNames = updateMeetingTechStacks(meetingEntity, updateMeetingRequestDto);
 
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, MeetingChangeType.UPDATED));
+
         return MeetingResponseDto.fromEntity(meetingEntity, techStackNames);
     }
 
@@ -191,11 +365,14 @@ public class MeetingService {
         // 개설자가 아닌 경우 예외 처리
         validateMeetingCreator(meetingEntity, username);
 
-        meetingTechStackRepository.deleteByMeeting(meetingEntity);
+        // 연관 데이터는 건수와 관계없이 벌크 DELETE 한 번씩으로 삭제
+        meetingTechStackRepository.deleteAllByMeetingId(meetingId);
+        likeRepository.deleteAllByMeetingId(meetingId);
+        applicationRepository.deleteAllByMeetingId(meetingId);
 
-        likeRepository.deleteByMeeting(meetingEntity);
+        meetingRepository.deleteMeetingById(meetingId);
 
-        meetingRepository.delete(meetingEntity);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, MeetingChangeType.DELETED));
     }
 
     /**
@@ -214,16 +391,22 @@ public class MeetingService {
         // 개설자가 아닌 경우 예외 처리
         validateMeetingCreator(meetingEntity, username);
 
-        // 지원자 정보와 상태 업데이트
-        List<ApplicationEntity> applications = applicationRepository.findByMeeting(meetingEntity);
-
         List<ConfirmMeetingResponseDto> responseDtos = new ArrayList<>();
         responseDtos.add(convertUserToDto(meetingEntity.getCreator())); // 개설자 처리
-        processApplications(applications, confirmMeetingRequestDto.getApplicationIds(), responseDtos); // 지원자 처리
 
-        // 미팅 상태를 확정
+        // 승인할 지원서 검증 및 지원자 정보 조회
+        Set<Long> applicationIds = new HashSet<>(confirmMeetingRequestDto.getApplicationIds()); // 중복 제거를 위해 Set 사용
+        List<ConfirmedMemberRow> approvedMembers = findApprovableMembers(meetingId, applicationIds);
+
+        // 미팅 상태를 확정 (일괄 UPDATE 전에 flush 되도록 먼저 변경)
         meetingEntity.confirm();
 
+        // 지원서 상태 일괄 업데이트 (승인 1회, 거절 1회)
+        processApplications(meetingId, applicationIds);
+        approvedMembers.forEach(member -> responseDtos.add(ConfirmMeetingResponseDto.fromRow(member)));
+
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, MeetingChangeType.CONFIRMED));
+
         // 승인된 지원자 정보를 반환
         return responseDtos;
     }
@@ -292,22 +475,30 @@ public class MeetingService {
      * @return 기술 스택 이름 리스트
      */
     private List<String> processExistingTechStacks(MeetingEntity meetingEntity, List<Long> techStackIds) {
-        List<TechStackEntity> techStacks = techStackRepository.findAllById(techStackIds);
+        // 기술 스택 사전에서 이름 조회 (사전에 없는 아이디만 DB 조회)
+        Map<Long, TechStackEntry> techStacks = techStackDictionary.getAll(techStackIds);
 
-        // MeetingTechStackEntity 생성
-        List<MeetingTechStackEntity> meetingTechStackEntities = techStacks.stream()
-                .map(techStack -> MeetingTechStackEntity.builder()
+        List<TechStackEntry> entries = techStackIds.stream()
+                .distinct()
+                .map(techStacks::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // MeetingTechStackEntity 생성 (기술 스택은 SELECT 없이 참조만 사용)
+        List<MeetingTechStackEntity> meetingTechStackEntities = entries.stream()
+                .map(entry -> MeetingTechStackEntity.builder()
                         .meeting(meetingEntity)
-                        .techStack(techStack)
+                        .techStack(techStackRepository.getReferenceById(entry.id()))
                         .build())
                 .toList();
 
         // 한 번에 저장
         meetingTechStackRepository.saveAll(meetingTechStackEntities);
+        meetingEntity.addMeetingTechStacks(meetingTechStackEntities);
 
         // 이름 반환
-        return techStacks.stream()
-                .map(TechStackEntity::getName)
+        return entries.stream()
+                .map(TechStackEntry::name)
                 .toList();
     }
 
@@ -319,27 +510,76 @@ public class MeetingService {
      * @return 기술 스택 이름 리스트
      */
     private List<String> processOtherTechStacks(MeetingEntity meetingEntity, List<String> otherTechStackNames) {
-        otherTechStackNames.forEach(otherTech -> {
-            // 기술 스택이 이미 존재하는지 확인하고, 없으면 새로 생성
-            TechStackEntity techStack = techStackRepository.findByName(otherTech)
-                    .orElseGet(() -> techStackRepository.save(
-                            TechStackEntity.builder()
-                                    .name(otherTech)
-                                    .category(TechCategory.OTHER)
-                                    .build()
-                    ));
-
-            // 모임과 기술 스택을 연결하여 저장
-            meetingTechStackRepository.save(
-                    MeetingTechStackEntity.builder()
-                            .meeting(meetingEntity)
-                            .techStack(techStack)
-                            .build()
-            );
-        });
-
-        return otherTechStackNames.stream()
+        // DB 비교 규칙(대소문자 무시)에 맞춰 중복 제거 - 먼저 입력한 표기를 사용
+        Set<String> seen = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        List<String> names = otherTechStackNames.stream()
+                .filter(seen::add)
                 .toList();
+
+        if (names.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 기술 스택을 한 번에 조회하고, 없는 것만 배치로 생성
+        Map<String, TechStackEntity> techStacks = findOrCreateOtherTechStacks(names);
+
+        // 모임과 기술 스택을 연결하여 한 번에 저장
+        List<MeetingTechStackEntity> meetingTechStackEntities = names.stream()
+                .map(name -> MeetingTechStackEntity.builder()
+                        .meeting(meetingEntity)
+                        .techStack(techStacks.get(name))
+                        .build())
+                .toList();
+        meetingTechStackRepository.saveAll(meetingTechStackEntities);
+        meetingEntity.addMeetingTechStacks(meetingTechStackEntities);
+
+        return names;
+    }
+
+    /**
+     * 이름으로 기술 스택을 조회하고, 없는 기술 스택은 기타(OTHER) 카테고리로 생성
+     * - 조회 1회, 없는 이름은 INSERT 배치 1회(중복 키 무시) 후 재조회 1회
+     * - 재조회에도 없는 이름이 있으면 잘못된 이름으로 보고 예외를 던집니다.
+     * - 동시에 같은 이름을 생성한 요청이 있어도 unique 제약 예외 없이 기존 행을 사용합니다.
+     * - DB 비교 규칙(대소문자 무시)에 맞춰 이름을 대소문자 구분 없이 매칭합니다.
+     *
+     * @param names 기술 스택 이름 목록 (중복 제거됨)
+     * @return 이름별 기술 스택 엔티티
+     */
+    private Map<String, TechStackEntity> findOrCreateOtherTechStacks(List<String> names) {
+        Map<String, TechStackEntity> techStacks = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        techStackRepository.findAllByNameIn(names)
+                .forEach(techStack -> techStacks.put(techStack.getName(), techStack));
+
+        List<String> missingNames = names.stream()
+                .filter(name -> !techStacks.containsKey(name))
+                .toList();
+
+        if (!missingNames.isEmpty()) {
+            techStackRepository.insertAllIfAbsent(missingNames, TechCategory.OTHER);
+            techStackRepository.findAllByNameIn(missingNames)
+                    .forEach(techStack -> techStacks.put(techStack.getName(), techStack));
+
+            if (!techStacks.keySet().containsAll(missingNames)) {
+                throw new InvalidTechStackNameException(ErrorCode.INVALID_TECH_STACK_NAME);
+            }
+
+            eventPublisher.publishEvent(new TechStackChangedEvent()); // 커밋 후 기술 스택 사전 갱신
+        }
+
+        return techStacks;
+    }
+
+    /**
+     * 필터 조건을 Specification으로 조합
+     * - 동등 조건(모집 구분, 확정 여부, 진행 기간) 다음에 범위 조건(마감 날짜), 기술 스택 서브쿼리 순으로 조합
+     */
+    private Specification<MeetingEntity> buildMeetingSpecification(MeetingFilterRequestDto filter) {
+        return Specification.where(MeetingSpecifications.recruitmentTypeEquals(filter.getRecruitmentType()))
+                .and(MeetingSpecifications.isConfirmedEquals(filter.getIsConfirmed()))
+                .and(MeetingSpecifications.durationEquals(filter.getDuration()))
+                .and(MeetingSpecifications.endDateBetween(filter.getEndDateFrom(), filter.getEndDateTo()))
+                .and(MeetingSpecifications.hasAnyTechStack(filter.getTechStackIds()));
     }
 
     /**
@@ -347,12 +587,12 @@ public class MeetingService {
      * - 익명 사용자, 개설자, 지원자 세가지 상태가 존재
      *
      * @param username 사용자명
-     * @param meetingEntity 모임 엔티티
+     * @param creatorUsername 모임 개설자의 사용자명
      * @return userType
      */
-    private String determineUserType(String username, MeetingEntity meetingEntity) {
+    private String determineUserType(String username, String creatorUsername) {
         if (username == null) return "Anonymous";
-        if (meetingEntity.getCreator().getUsername().equals(username)) return "Creator";
+        if (creatorUsername.equals(username)) return "Creator";
         return "Applicant";
     }
 
@@ -360,63 +600,23 @@ public class MeetingService {
      * 지원자일 경우 지원자의 상태를 확인하기 위한 메서드
      * - 지원 여부, 지원 상태를 알려줍니다.
      *
-     * @param username 사용자명
      * @param userType 유저 타입 - 지원자일 경우 체크
-     * @param meetingEntity 모임 엔티티
+     * @param viewerState 조회자별 상태
      * @return 지원 여부 (isApplication)와 지원 상태 (applicationStatus)를 포함하는 ApplicationDetail 객체
      */
-    private ApplicationDetail getApplicationDetail(String username, String userType, MeetingEntity meetingEntity) {
+    private ApplicationDetail getApplicationDetail(String userType, MeetingViewerState viewerState) {
         if (!"Applicant".equals(userType)) {
             return new ApplicationDetail(null, null);
         }
 
-        UserEntity userEntity = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
-        ApplicationEntity applicationEntity = applicationRepository.findByApplicantAndMeeting(userEntity, meetingEntity)
-                .orElse(null);
-
-        Boolean isApplication = (applicationEntity != null);
-        ApplicationStatus applicationStatus = (applicationEntity != null) ? applicationEntity.getStatus() : null;
+        ApplicationStatus applicationStatus = viewerState.applicationStatus();
+        Boolean isApplication = (applicationStatus != null);
 
         return new ApplicationDetail(isApplication, applicationStatus);
     }
 
     private record ApplicationDetail(Boolean isApplication, ApplicationStatus applicationStatus) {}
 
-    /**
-     * 모임에 연결된 기술 스택을 반환하는 메서드
-     *
-     * @param meetingEntity 모임 엔티티
-     * @return 기술 스택 이름 리스트
-     */
-    private List<String> getTechStacksForMeeting(MeetingEntity meetingEntity) {
-        return meetingTechStackRepository.findByMeeting(meetingEntity).stream()
-                .map(meetingTechStack -> meetingTechStack.getTechStack().getName())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 모임에 대한 좋아요 정보 및 내가 좋아요를 눌렀는지 여부를 반환하는 메서드
-     * - 익명 사용자의 경우 isLiked 정보를 넘기지 않음 -> null
-     *
-     * @param meetingEntity 모임 엔티티
-     * @param username   사용자명
-     * @return 좋아요 DTO
-     */
-    private LikeDto getLikeDtoForMeeting(MeetingEntity meetingEntity, String username) {
-        Long likeCount = likeRepository.countByMeeting(meetingEntity);
-
-        // 익명 사용자인 경우 좋아요 여부를 포함하지 않음
-        Boolean isLiked = (username != null)
-                ? likeRepository.existsByMeetingAndUserUsername(meetingEntity, username)
-                : null;
-
-        return LikeDto.builder()
-                .likeCount(likeCount)
-                .isLiked(isLiked)
-                .build();
-    }
-
     /**
      * 모임 연결된 기술 스택을 업데이트하는 메서드
      *
@@ -425,7 +625,8 @@ public class MeetingService {
      */
     private List<String> updateMeetingTechStacks(MeetingEntity meetingEntity, UpdateMeetingRequestDto updateMeetingRequestDto) {
         if (updateMeetingRequestDto.getTechStackIds() != null || updateMeetingRequestDto.getOtherTechStacks() != null) {
-            meetingTechStackRepository.deleteByMeeting(meetingEntity);
+            meetingTechStackRepository.deleteAllByMeetingId(meetingEntity.getId());
+            meetingEntity.clearMeetingTechStacks();
         }
 
         List<String> techStackNames = new ArrayList<>();
@@ -454,59 +655,53 @@ public class MeetingService {
     }
 
     /**
-     * 지원자들의 처리
-     * - 유효하지 않은 아이디 제거
-     * - 모임 확정된 지원자들은 지원으로 status 변경, 아닌 경우는 거절로 status 변경
+     * 승인할 지원서 검증 및 지원자 정보 조회
+     * - 해당 모임의 지원서가 아닌 아이디가 섞여 있으면 예외
+     * - 대기 상태가 아닌 지원서가 섞여 있으면 예외
      *
-     * @param applications 지원서 엔티티
-     * @param applicationIds 모임원들의 지원서 아이디 리스트
-     * @param responseDtos 모임원들의 정보가 담긴 DTO
+     * @param meetingId 모임 아이디
+     * @param applicationIds 모임원들의 지원서 아이디 (중복 제거됨)
+     * @return 승인할 지원서와 지원자 정보
      */
-    private void processApplications(List<ApplicationEntity> applications, List<Long> applicationIds, List<ConfirmMeetingResponseDto> responseDtos) {
-        // 지원서 ID가 유효한지 확인
-        Set<Long> validApplicationIds = new HashSet<>(applicationIds); // 중복 제거를 위해 Set 사용
-        List<ApplicationEntity> validApplications = new ArrayList<>();
-
-        // 유효한 지원서를 처리하고, 유효하지 않은 ID는 예외 처리
-        for (ApplicationEntity applicationEntity : applications) {
-            if (validApplicationIds.remove(applicationEntity.getId())) {
-                validApplications.add(applicationEntity);
-            }
+    private List<ConfirmedMemberRow> findApprovableMembers(Long meetingId, Set<Long> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return new ArrayList<>();
         }
 
+        List<ConfirmedMemberRow> members = applicationRepository.findConfirmedMemberRows(meetingId, applicationIds);
+
         // 유효하지 않은 ID가 존재하면 예외 발생
-        if (!validApplicationIds.isEmpty()) {
+        if (members.size() != applicationIds.size()) {
             throw new InvalidApplicationIdException(ErrorCode.INVALID_APPLICATION_ID);
         }
 
-        // 승인된 지원서 처리
-        processApprovedApplications(validApplications, responseDtos);
+        for (ConfirmedMemberRow member : members) {
+            if (member.status() != ApplicationStatus.PENDING) {
+                throw new IllegalStateException("대기 상태의 지원서만 승인할 수 있습니다.");
+            }
+        }
 
-        // 거절된 지원서 처리
-        rejectInvalidApplications(applications, validApplications);
+        return members;
     }
 
     /**
-     * 승인된 지원서 처리
-     * - 지원자의 상태 -> approve
+     * 지원자들의 처리
+     * - 모임 확정된 지원자들은 승인으로, 나머지 대기 중인 지원자들은 거절로 status 일괄 변경
+     * - 지원서 수와 관계없이 UPDATE 쿼리 두 번으로 처리합니다.
+     *
+     * @param meetingId 모임 아이디
+     * @param applicationIds 모임원들의 지원서 아이디 (검증됨)
      */
-    private void processApprovedApplications(List<ApplicationEntity> validApplications, List<ConfirmMeetingResponseDto> responseDtos) {
-        for (ApplicationEntity applicationEntity : validApplications) {
-            applicationEntity.approve(); // 지원 확정
-            responseDtos.add(convertUserToDto(applicationEntity.getApplicant())); // 승인된 지원자 DTO 변환 후 추가
-        }
-    }
+    private void processApplications(Long meetingId, Set<Long> applicationIds) {
+        LocalDateTime now = LocalDateTime.now();
 
-    /**
-     * 거절된 지원서 처리
-     * - 지원자의 상태 -> reject
-     */
-    private void rejectInvalidApplications(List<ApplicationEntity> applications, List<ApplicationEntity> validApplications) {
-        for (ApplicationEntity applicationEntity : applications) {
-            if (!validApplications.contains(applicationEntity)) {
-                applicationEntity.reject(); // 지원 거절
-            }
+        if (applicationIds.isEmpty()) {
+            applicationRepository.rejectAllPending(meetingId, now);
+            return;
         }
+
+        applicationRepository.approveAll(meetingId, applicationIds, now);
+        applicationRepository.rejectAllExcept(meetingId, applicationIds, now);
     }
 
     /**
@@ -1,26 +1,25 @@
 package com.example.starhub.service;
 
 import com.example.starhub.dto.request.UpdateProfileRequestDto;
-import com.example.starhub.dto.response.LikeDto;
+import com.example.starhub.dto.response.CursorResponseDto;
 import com.example.starhub.dto.response.MeetingSummaryResponseDto;
 import com.example.starhub.dto.response.ProfileResponseDto;
-import com.example.starhub.entity.ApplicationEntity;
-import com.example.starhub.entity.LikeEntity;
-import com.example.starhub.entity.MeetingEntity;
 import com.example.starhub.entity.UserEntity;
 import com.example.starhub.exception.UserNotFoundException;
 import com.example.starhub.repository.*;
+import com.example.starhub.repository.projection.MeetingSummaryRow;
 import com.example.starhub.response.code.ErrorCode;
+import com.example.starhub.service.assembler.MeetingSummaryAssembler;
+import com.example.starhub.util.Cursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,9 +28,9 @@ public class MyPageService {
 
     private final UserRepository userRepository;
     private final MeetingRepository meetingRepository;
-    private final MeetingTechStackRepository meetingTechStackRepository;
-    private final LikeRepository likeRepository;
-    private final ApplicationRepository applicationRepository;
+    private final MeetingSummaryAssembler meetingSummaryAssembler;
+
+    private static final PageRequest RECENT_PAGE = PageRequest.of(0, 3);
 
     /**
      * 공통 검증 로직: 사용자 가져오기
@@ -72,7 +71,7 @@ public class MyPageService {
      * @return 모임 요약 정보가 담긴 DTO 리스트
      */
     public List<MeetingSummaryResponseDto> getUserRecentMeetings(String username) {
-        return getRecentMeetings(meetingRepository.findTop3ByCreatorOrderByCreatedAtDesc(validateAndGetUser(username)), username);
+        return getRecentMeetings(meetingRepository.findSummarySliceByCreator(validateAndGetUser(username), RECENT_PAGE), username);
     }
 
     /**
@@ -82,9 +81,7 @@ public class MyPageService {
      * @return 모임 요약 정보가 담긴 DTO 리스트
      */
     public List<MeetingSummaryResponseDto> getLikedRecentMeetings(String username) {
-        List<MeetingEntity> meetings = likeRepository.findTop3ByUserOrderByCreatedAtDesc(validateAndGetUser(username))
-                .stream().map(LikeEntity::getMeeting).collect(Collectors.toList());
-        return getRecentMeetings(meetings, username);
+        return getRecentMeetings(meetingRepository.findLikedSummarySlice(validateAndGetUser(username), RECENT_PAGE), username);
     }
 
     /**
@@ -94,9 +91,7 @@ public class MyPageService {
      * @return 모임 요약 정보가 담긴 DTO 리스트
      */
     public List<MeetingSummaryResponseDto> getAppliedRecentMeetings(String username) {
-        List<MeetingEntity> meetings = applicationRepository.findTop3ByApplicantOrderByCreatedAtDesc(validateAndGetUser(username))
-                .stream().map(ApplicationEntity::getMeeting).collect(Collectors.toList());
-        return getRecentMeetings(meetings, username);
+        return getRecentMeetings(meetingRepository.findAppliedSummarySlice(validateAndGetUser(username), RECENT_PAGE), username);
     }
 
     /**
@@ -108,8 +103,8 @@ public class MyPageService {
      * @return 모임 요약 정보가 담긴 DTO 리스트 - 페이지네이션 적용
      */
     public Page<MeetingSummaryResponseDto> getCreatedMeetings(String username, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return getMeetingsPage(meetingRepository.findByCreator(validateAndGetUser(username), pageable), username);
+        Pageable pageable = PageRequest.of(page, size);
+        return getMeetingsPage(meetingRepository.findSummaryPageByCreator(validateAndGetUser(username), pageable), username);
     }
 
     /**
@@ -121,9 +116,8 @@ public class MyPageService {
      * @return 모임 요약 정보가 담긴 DTO 리스트 - 페이지네이션 적용
      */
     public Page<MeetingSummaryResponseDto> getLikedMeetings(String username, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<LikeEntity> likedMeetingsPage = likeRepository.findByUser(validateAndGetUser(username), pageable);
-        return getMeetingsPage(likedMeetingsPage.map(LikeEntity::getMeeting), username);
+        Pageable pageable = PageRequest.of(page, size);
+        return getMeetingsPage(meetingRepository.findLikedSummaryPage(validateAndGetUser(username), pageable), username);
     }
 
     /**
@@ -135,46 +129,96 @@ public class MyPageService {
      * @return 모임 요약 정보가 담긴 DTO 리스트 - 페이지네이션 적용
      */
     public Page<MeetingSummaryResponseDto> getAppliedMeetings(String username, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<ApplicationEntity> appliedMeetingsPage = applicationRepository.findByApplicant(validateAndGetUser(username), pageable);
-        return getMeetingsPage(appliedMeetingsPage.map(ApplicationEntity::getMeeting), username);
+        Pageable pageable = PageRequest.of(page, size);
+        return getMeetingsPage(meetingRepository.findAppliedSummaryPage(validateAndGetUser(username), pageable), username);
     }
 
     /**
-     * 최근 모임 목록을 가져오는 공통 로직
+     * 내가 작성한 모임 목록 (커서 기반 페이지네이션 적용)
+     *
+     * @param username 사용자명
+     * @param cursor 이전 응답의 nextCursor (첫 페이지일 경우 null)
+     * @param size 페이지 크기
+     * @return 모임 요약 정보가 담긴 커서 응답 DTO
      */
-    private List<MeetingSummaryResponseDto> getRecentMeetings(List<MeetingEntity> meetings, String username) {
-        return meetings.stream().map(meeting ->
-                MeetingSummaryResponseDto.fromEntity(meeting, getTechStacksForMeeting(meeting), getLikeDtoForMeeting(meeting, username))
-        ).collect(Collectors.toList());
+    public CursorResponseDto<MeetingSummaryResponseDto> getCreatedMeetingsByCursor(String username, String cursor, int size) {
+        UserEntity user = validateAndGetUser(username);
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        Slice<MeetingSummaryRow> meetingSlice = hasCursor(cursor)
+                ? findCreatedMeetingsAfterCursor(user, Cursor.decode(cursor), pageRequest)
+                : meetingRepository.findSummarySliceByCreator(user, pageRequest);
+
+        return meetingSummaryAssembler.toCursorResponse(meetingSlice, username);
     }
 
     /**
-     * 페이징된 모임 목록을 가져오는 공통 로직
+     * 내가 좋아요 누른 모임 목록 (커서 기반 페이지네이션 적용)
+     * - 좋아요 누른 시간 기준 내림차순
+     *
+     * @param username 사용자명
+     * @param cursor 이전 응답의 nextCursor (첫 페이지일 경우 null)
+     * @param size 페이지 크기
+     * @return 모임 요약 정보가 담긴 커서 응답 DTO
+     */
+    public CursorResponseDto<MeetingSummaryResponseDto> getLikedMeetingsByCursor(String username, String cursor, int size) {
+        UserEntity user = validateAndGetUser(username);
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        Slice<MeetingSummaryRow> likedSlice = hasCursor(cursor)
+                ? findLikedMeetingsAfterCursor(user, Cursor.decode(cursor), pageRequest)
+                : meetingRepository.findLikedSummarySlice(user, pageRequest);
+
+        return meetingSummaryAssembler.toCursorResponse(likedSlice, username);
+    }
+
+    /**
+     * 내가 참여한 모임 목록 (커서 기반 페이지네이션 적용)
+     * - 지원한 시간 기준 내림차순
+     *
+     * @param username 사용자명
+     * @param cursor 이전 응답의 nextCursor (첫 페이지일 경우 null)
+     * @param size 페이지 크기
+     * @return 모임 요약 정보가 담긴 커서 응답 DTO
      */
-    private Page<MeetingSummaryResponseDto> getMeetingsPage(Page<MeetingEntity> meetingsPage, String username) {
-        return meetingsPage.map(meeting ->
-                MeetingSummaryResponseDto.fromEntity(meeting, getTechStacksForMeeting(meeting), getLikeDtoForMeeting(meeting, username))
-        );
+    public CursorResponseDto<MeetingSummaryResponseDto> getAppliedMeetingsByCursor(String username, String cursor, int size) {
+        UserEntity user = validateAndGetUser(username);
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        Slice<MeetingSummaryRow> appliedSlice = hasCursor(cursor)
+                ? findAppliedMeetingsAfterCursor(user, Cursor.decode(cursor), pageRequest)
+                : meetingRepository.findAppliedSummarySlice(user, pageRequest);
+
+        return meetingSummaryAssembler.toCursorResponse(appliedSlice, username);
+    }
+
+    private boolean hasCursor(String cursor) {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    private Slice<MeetingSummaryRow> findCreatedMeetingsAfterCursor(UserEntity user, Cursor cursor, Pageable pageable) {
+        return meetingRepository.findSummarySliceByCreatorAfterCursor(user, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    private Slice<MeetingSummaryRow> findLikedMeetingsAfterCursor(UserEntity user, Cursor cursor, Pageable pageable) {
+        return meetingRepository.findLikedSummarySliceAfterCursor(user, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    private Slice<MeetingSummaryRow> findAppliedMeetingsAfterCursor(UserEntity user, Cursor cursor, Pageable pageable) {
+        return meetingRepository.findAppliedSummarySliceAfterCursor(user, cursor.createdAt(), cursor.id(), pageable);
     }
 
     /**
-     * 모임에 연결된 기술 스택을 반환하는 메서드
+     * 최근 모임 목록을 가져오는 공통 로직
      */
-    private List<String> getTechStacksForMeeting(MeetingEntity meetingEntity) {
-        return meetingTechStackRepository.findByMeeting(meetingEntity).stream()
-                .map(meetingTechStack -> meetingTechStack.getTechStack().getName())
-                .collect(Collectors.toList());
+    private List<MeetingSummaryResponseDto> getRecentMeetings(Slice<MeetingSummaryRow> meetings, String username) {
+        return meetingSummaryAssembler.toSummaries(meetings.getContent(), username);
     }
 
     /**
-     * 모임에 대한 좋아요 정보 및 내가 좋아요를 눌렀는지 여부를 반환하는 메서드
+     * 페이징된 모임 목록을 가져오는 공통 로직
      */
-    private LikeDto getLikeDtoForMeeting(MeetingEntity meetingEntity, String username) {
-        return LikeDto.builder()
-                .likeCount(likeRepository.countByMeeting(meetingEntity))
-                .isLiked(likeRepository.existsByMeetingAndUserUsername(meetingEntity, username))
-                .build();
+    private Page<MeetingSummaryResponseDto> getMeetingsPage(Page<MeetingSummaryRow> meetingsPage, String username) {
+        return meetingSummaryAssembler.toSummaryPage(meetingsPage, username);
     }
 }
-
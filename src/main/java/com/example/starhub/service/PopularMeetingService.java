@@ -1,29 +1,28 @@
 package com.example.starhub.service;
 
-import com.example.starhub.dto.response.LikeDto;
 import com.example.starhub.dto.response.MeetingSummaryResponseDto;
-import com.example.starhub.entity.MeetingEntity;
-import com.example.starhub.entity.MeetingTechStackEntity;
 import com.example.starhub.entity.enums.RecruitmentType;
-import com.example.starhub.exception.MeetingNotFoundException;
-import com.example.starhub.repository.*;
-import com.example.starhub.response.code.ErrorCode;
+import com.example.starhub.repository.MeetingRepository;
+import com.example.starhub.service.assembler.MeetingSummaryAssembler;
+import com.example.starhub.service.leaderboard.PopularMeetingLeaderboard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Collections;
+import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class PopularMeetingService {
 
+    private static final int POPULAR_MEETING_LIMIT = 3;
+
     private final MeetingRepository meetingRepository;
-    private final MeetingTechStackRepository meetingTechStackRepository;
-    private final LikeRepository likeRepository;
+    private final MeetingSummaryAssembler meetingSummaryAssembler;
+    private final PopularMeetingLeaderboard popularMeetingLeaderboard;
 
     /**
      * 인기글 페이지 - 프로젝트 인기글 3개를 반환합니다.
@@ -61,72 +60,20 @@ public class PopularMeetingService {
             return Collections.emptyList();
         }
 
-        Map<Long, Set<String>> meetingTechStacksMap = getTechStacksMap(meetingIds);
-
-        return meetingIds.stream()
-                .map(meetingId -> createMeetingSummaryResponseDto(meetingId, username, meetingTechStacksMap))
-                .collect(Collectors.toList());
+        return meetingSummaryAssembler.toSummariesByIds(meetingIds, username);
     }
 
     /**
      * 모집 유형과 마감임박 여부에 따라 모임 ID 리스트를 가져옵니다.
+     * - Redis 순위표를 우선 조회하고, 순위표를 사용할 수 없으면 DB 쿼리로 대체합니다.
      */
     private List<Long> getMeetingIds(RecruitmentType recruitmentType, boolean isExpiring) {
         if (isExpiring) {
-            return meetingRepository.findTop3ExpiringPopularMeetingsIds(PageRequest.of(0, 3));
+            return popularMeetingLeaderboard.findTopExpiringMeetingIds(POPULAR_MEETING_LIMIT)
+                    .orElseGet(() -> meetingRepository.findTop3ExpiringPopularMeetingsIds(PageRequest.of(0, POPULAR_MEETING_LIMIT)));
         } else {
-            return meetingRepository.findTop3PopularMeetingIds(recruitmentType, PageRequest.of(0, 3));
+            return popularMeetingLeaderboard.findTopMeetingIds(recruitmentType, POPULAR_MEETING_LIMIT)
+                    .orElseGet(() -> meetingRepository.findTop3PopularMeetingIds(recruitmentType, PageRequest.of(0, POPULAR_MEETING_LIMIT)));
         }
     }
-
-    /**
-     * 모임 ID 리스트에 해당하는 기술 스택 정보를 가져옵니다.
-     */
-    private Map<Long, Set<String>> getTechStacksMap(List<Long> meetingIds) {
-        List<MeetingTechStackEntity> meetingTechStacks = meetingTechStackRepository.findMeetingTechStacksByMeetingIds(meetingIds);
-        return meetingTechStacks.stream()
-                .collect(Collectors.groupingBy(
-                        mts -> mts.getMeeting().getId(),
-                        Collectors.mapping(mts -> mts.getTechStack().getName(), Collectors.toSet())
-                ));
-    }
-
-    /**
-     * 해당 모임 ID에 대해 DTO를 생성합니다.
-     */
-    private MeetingSummaryResponseDto createMeetingSummaryResponseDto(Long meetingId, String username, Map<Long, Set<String>> meetingTechStacksMap) {
-        Set<String> techStacksSet = meetingTechStacksMap.getOrDefault(meetingId, Collections.emptySet());
-        List<String> techStacks = new ArrayList<>(techStacksSet);
-
-        // 해당 meetingId에 대한 MeetingEntity를 가져오기
-        MeetingEntity meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new MeetingNotFoundException(ErrorCode.MEETING_NOT_FOUND));
-
-        // 좋아요 관련 정보를 가져오기
-        LikeDto likeDto = getLikeDtoForMeeting(meeting, username);
-
-        return MeetingSummaryResponseDto.fromEntity(meeting, techStacks, likeDto);
-    }
-
-    /**
-     * 모임에 대한 좋아요 정보 및 내가 좋아요를 눌렀는지 여부를 반환하는 메서드
-     * - 익명 사용자의 경우 isLiked 정보를 넘기지 않음 -> null
-     *
-     * @param meetingEntity 모임 엔티티
-     * @param username   사용자명
-     * @return 좋아요 DTO
-     */
-    private LikeDto getLikeDtoForMeeting(MeetingEntity meetingEntity, String username) {
-        Long likeCount = likeRepository.countByMeeting(meetingEntity);
-
-        // 익명 사용자인 경우 좋아요 여부를 포함하지 않음
-        Boolean isLiked = (username != null)
-                ? likeRepository.existsByMeetingAndUserUsername(meetingEntity, username)
-                : null;
-
-        return LikeDto.builder()
-                .likeCount(likeCount)
-                .isLiked(isLiked)
-                .build();
-    }
 }
@@ -8,9 +8,12 @@ import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Redis와 상호작용하기 위한 서비스 클래스.
@@ -58,6 +61,36 @@ public class RedisService {
         return Optional.ofNullable(value).map(String::valueOf);
     }
 
+    /**
+     * Redis에서 여러 키의 값을 한 번에 조회하는 메서드.
+     *
+     * @param keys 조회할 키 목록
+     * @return 키 순서대로의 값 목록 (값이 없는 키는 null)
+     */
+    public List<String> getMultiValues(List<String> keys) {
+        ValueOperations<String, Object> values = redisTemplate.opsForValue();
+        List<Object> result = values.multiGet(keys);
+        if (result == null) {
+            return Collections.nCopies(keys.size(), null);
+        }
+        return result.stream()
+                .map(value -> value != null ? String.valueOf(value) : null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Redis에서 특정 키의 숫자 값을 1 증가시키고 유효 기간을 다시 설정하는 메서드.
+     *
+     * @param key 증가시킬 키 (없으면 0에서 시작)
+     * @param duration 키의 유효 기간
+     * @return 증가된 값
+     */
+    public long increment(String key, Duration duration) {
+        Long value = redisTemplate.opsForValue().increment(key);
+        redisTemplate.expire(key, duration);
+        return value != null ? value : 0L;
+    }
+
     /**
      * Redis에서 특정 키-값 쌍을 삭제하는 메서드.
      *
@@ -121,4 +154,14 @@ public class RedisService {
     public boolean checkExistsValue(String key) {
         return redisTemplate.hasKey(key);
     }
+
+    /**
+     * Redis 채널에 메시지를 발행하는 메서드.
+     *
+     * @param channel 채널 이름
+     * @param message 발행할 메시지
+     */
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
 }
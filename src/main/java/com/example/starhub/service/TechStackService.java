@@ -4,9 +4,11 @@ import com.example.starhub.dto.response.TechStackResponseDto;
 import com.example.starhub.entity.TechStackEntity;
 import com.example.starhub.entity.enums.TechCategory;
 import com.example.starhub.repository.TechStackRepository;
+import com.example.starhub.service.cache.TechStackDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,15 +19,25 @@ import java.util.stream.Collectors;
 public class TechStackService {
 
     private final TechStackRepository techStackRepository;
+    private final TechStackDictionary techStackDictionary;
 
     /**
      * 기술 스택 불러오기
      * - 누구나 불러올 수 있음
      * - 기술 스택 카테고리가 OTHER가 아닌 기술 스택 목록 불러오기
+     * - 읽기 전용 트랜잭션에서는 기술 스택 사전(메모리)에서 조회합니다.
+     *   쓰기 트랜잭션 안에서는 커밋되지 않은 변경이 보이도록 DB에서 조회합니다.
      *
      * @return 기술 스택 정보가 담긴 DTO
      */
+    @Transactional(readOnly = true)
     public List<TechStackResponseDto> getTechStack() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && techStackDictionary.isLoaded()) {
+            return techStackDictionary.getSelectable().stream()
+                    .map(TechStackResponseDto::fromEntry)
+                    .collect(Collectors.toList());
+        }
+
         List<TechStackEntity> techStackEntities = techStackRepository.findByCategoryNot(TechCategory.OTHER);
 
         return techStackEntities.stream()
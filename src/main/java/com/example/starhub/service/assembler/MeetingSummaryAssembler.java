@@ -0,0 +1,219 @@
+package com.example.starhub.service.assembler;
+
+import com.example.starhub.dto.response.CursorResponseDto;
+import com.example.starhub.dto.response.LikeDto;
+import com.example.starhub.dto.response.MeetingSummaryResponseDto;
+import com.example.starhub.repository.LikeRepository;
+import com.example.starhub.repository.MeetingRepository;
+import com.example.starhub.repository.MeetingTechStackRepository;
+import com.example.starhub.repository.projection.MeetingSummaryRow;
+import com.example.starhub.repository.projection.MeetingTechStackId;
+import com.example.starhub.service.cache.TechStackDictionary;
+import com.example.starhub.service.cache.TechStackDictionary.TechStackEntry;
+import com.example.starhub.util.Cursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 모임 요약 DTO 조립기
+ * - 여러 모임의 기술 스택, 좋아요 여부를 모임 아이디 기준 IN 쿼리로 한 번에 조회합니다.
+ * - 기술 스택은 아이디만 조회하고 이름은 기술 스택 사전(메모리)에서 가져옵니다.
+ * - 모임 정보는 엔티티 대신 요약 컬럼만 담은 프로젝션(MeetingSummaryRow)으로 받습니다.
+ * - 좋아요 수는 모임의 likeCount 컬럼을 그대로 사용합니다.
+ * - 같은 요청 안에서 이미 조회한 정보는 요청 범위 메모에서 재사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MeetingSummaryAssembler {
+
+    private static final String MEMO_ATTRIBUTE = MeetingSummaryAssembler.class.getName() + ".memo";
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingTechStackRepository meetingTechStackRepository;
+    private final LikeRepository likeRepository;
+    private final TechStackDictionary techStackDictionary;
+
+    /**
+     * 페이징된 모임 목록을 요약 DTO 페이지로 변환합니다.
+     *
+     * @param meetingPage 모임 요약 프로젝션 페이지
+     * @param username 사용자명 (익명 사용자일 경우 null)
+     * @return 모임 요약 DTO 페이지
+     */
+    public Page<MeetingSummaryResponseDto> toSummaryPage(Page<MeetingSummaryRow> meetingPage, String username) {
+        List<MeetingSummaryResponseDto> summaries = toSummaries(meetingPage.getContent(), username);
+        return new PageImpl<>(summaries, meetingPage.getPageable(), meetingPage.getTotalElements());
+    }
+
+    /**
+     * 커서 기반으로 조회한 목록을 요약 DTO 커서 응답으로 변환합니다.
+     * - 다음 커서는 마지막 행의 커서 컬럼(cursorCreatedAt, cursorId)으로 만듭니다.
+     *
+     * @param slice 모임 요약 프로젝션 슬라이스
+     * @param username 사용자명 (익명 사용자일 경우 null)
+     * @return 모임 요약 DTO 커서 응답
+     */
+    public CursorResponseDto<MeetingSummaryResponseDto> toCursorResponse(Slice<MeetingSummaryRow> slice, String username) {
+        List<MeetingSummaryRow> rows = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !rows.isEmpty()) {
+            MeetingSummaryRow last = rows.get(rows.size() - 1);
+            nextCursor = new Cursor(last.getCursorCreatedAt(), last.getCursorId()).encode();
+        }
+
+        return CursorResponseDto.<MeetingSummaryResponseDto>builder()
+                .content(toSummaries(rows, username))
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * 모임 목록을 요약 DTO 목록으로 변환합니다.
+     *
+     * @param meetings 모임 요약 프로젝션 리스트
+     * @param username 사용자명 (익명 사용자일 경우 null)
+     * @return 모임 요약 DTO 리스트
+     */
+    public List<MeetingSummaryResponseDto> toSummaries(List<MeetingSummaryRow> meetings, String username) {
+        if (meetings.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> meetingIds = meetings.stream()
+                .map(MeetingSummaryRow::getId)
+                .collect(Collectors.toList());
+
+        SummaryMemo memo = currentMemo();
+        loadTechStacks(memo, meetingIds);
+        loadLikedFlags(memo, username, meetingIds);
+
+        return meetings.stream()
+                .map(meeting -> MeetingSummaryResponseDto.fromRow(
+                        meeting,
+                        memo.getTechStacks(meeting.getId()),
+                        memo.getLikeDto(meeting.getId(), meeting.getLikeCount(), username)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 모임 아이디 목록을 요약 DTO 목록으로 변환합니다.
+     * - 모임 아이디 순서를 유지하며, 존재하지 않는 모임은 제외합니다.
+     *
+     * @param meetingIds 모임 아이디 리스트
+     * @param username 사용자명 (익명 사용자일 경우 null)
+     * @return 모임 요약 DTO 리스트
+     */
+    public List<MeetingSummaryResponseDto> toSummariesByIds(List<Long> meetingIds, String username) {
+        if (meetingIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, MeetingSummaryRow> meetingMap = meetingRepository.findSummariesByIdIn(meetingIds).stream()
+                .collect(Collectors.toMap(MeetingSummaryRow::getId, Function.identity()));
+
+        List<MeetingSummaryRow> meetings = meetingIds.stream()
+                .map(meetingMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return toSummaries(meetings, username);
+    }
+
+    private void loadTechStacks(SummaryMemo memo, List<Long> meetingIds) {
+        List<Long> missingIds = memo.missing(memo.techStacks, meetingIds);
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        List<MeetingTechStackId> rows = meetingTechStackRepository.findTechStackIdsByMeetingIds(missingIds);
+        Map<Long, TechStackEntry> techStacks = techStackDictionary.getAll(rows.stream()
+                .map(MeetingTechStackId::getTechStackId)
+                .collect(Collectors.toSet()));
+
+        Map<Long, List<String>> techStacksMap = rows.stream()
+                .filter(row -> techStacks.containsKey(row.getTechStackId()))
+                .collect(Collectors.groupingBy(
+                        MeetingTechStackId::getMeetingId,
+                        Collectors.mapping(row -> techStacks.get(row.getTechStackId()).name(), Collectors.toList())
+                ));
+
+        missingIds.forEach(meetingId ->
+                memo.techStacks.put(meetingId, techStacksMap.getOrDefault(meetingId, Collections.emptyList())));
+    }
+
+    private void loadLikedFlags(SummaryMemo memo, String username, List<Long> meetingIds) {
+        // 익명 사용자인 경우 좋아요 여부를 조회하지 않음
+        if (username == null) {
+            return;
+        }
+
+        Map<Long, Boolean> likedFlags = memo.likedFlags.computeIfAbsent(username, key -> new HashMap<>());
+        List<Long> missingIds = memo.missing(likedFlags, meetingIds);
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> likedMeetingIds = new HashSet<>(likeRepository.findLikedMeetingIds(username, missingIds));
+        missingIds.forEach(meetingId -> likedFlags.put(meetingId, likedMeetingIds.contains(meetingId)));
+    }
+
+    /**
+     * 현재 요청 범위의 메모를 가져옵니다.
+     * - HTTP 요청 밖(배치, 테스트 등)에서는 호출마다 새로운 메모를 사용합니다.
+     */
+    private SummaryMemo currentMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new SummaryMemo();
+        }
+
+        SummaryMemo memo = (SummaryMemo) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new SummaryMemo();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    /**
+     * 요청 범위에서 재사용되는 모임 요약 정보
+     */
+    private static class SummaryMemo {
+
+        private final Map<Long, List<String>> techStacks = new HashMap<>();
+        private final Map<String, Map<Long, Boolean>> likedFlags = new HashMap<>();
+
+        private List<Long> missing(Map<Long, ?> loaded, List<Long> meetingIds) {
+            return meetingIds.stream()
+                    .distinct()
+                    .filter(meetingId -> !loaded.containsKey(meetingId))
+                    .collect(Collectors.toList());
+        }
+
+        private List<String> getTechStacks(Long meetingId) {
+            return new ArrayList<>(techStacks.getOrDefault(meetingId, Collections.emptyList()));
+        }
+
+        private LikeDto getLikeDto(Long meetingId, Long likeCount, String username) {
+            Boolean isLiked = (username != null)
+                    ? likedFlags.getOrDefault(username, Collections.emptyMap()).getOrDefault(meetingId, false)
+                    : null;
+
+            return LikeDto.builder()
+                    .likeCount(likeCount)
+                    .isLiked(isLiked)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.starhub.service.cache;
+
+import com.example.starhub.service.RedisService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 모임 상세 정보 2단계 캐시 (cache-aside)
+ * - 1단계: 인스턴스 내부의 크기 제한 LRU (짧은 TTL)
+ * - 2단계: Redis (JSON 문자열)
+ * - 모임 변경 이벤트로 두 단계 모두 무효화합니다. (MeetingDetailCacheEvictionListener)
+ * - 캐시 미스 후 DB를 읽은 요청이 그 사이 커밋된 변경의 무효화보다 늦게 저장하면 이전 값이 남으므로,
+ *   Redis 값에는 조회 전에 읽은 모임별 버전을, 로컬 캐시에는 조회 전에 읽은 무효화 세대를 함께 확인합니다.
+ *   무효화는 버전(세대)을 올리므로, 무효화 이전에 읽은 값은 저장되더라도 사용되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingDetailCache {
+
+    private static final String KEY_PREFIX = "meeting:detail:";
+    private static final String VERSION_KEY_PREFIX = "meeting:detail:version:";
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${starhub.cache.meeting-detail.local-max-size:1000}")
+    private int localMaxSize;
+
+    // 다른 인스턴스의 로컬 캐시는 이벤트로 무효화되지 않으므로 짧게 유지
+    @Value("${starhub.cache.meeting-detail.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${starhub.cache.meeting-detail.redis-ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    private final Map<Long, LocalEntry> localCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LocalEntry> eldest) {
+            return size() > localMaxSize;
+        }
+    };
+
+    // 로컬 캐시 무효화 세대 (localCache 잠금 안에서만 읽고 씀)
+    private long localGeneration;
+
+    /**
+     * 캐시에서 모임 상세 정보를 가져오고, 없으면 loader로 조회한 뒤 저장합니다.
+     * - 읽기 전용 트랜잭션에서만 캐시를 사용합니다.
+     *   쓰기 트랜잭션 안에서는 커밋되지 않은 값이 캐시에 들어가거나, 캐시가 방금 변경한 값을 가리지 않도록 항상 DB에서 조회합니다.
+     *
+     * @param meetingId 모임 아이디
+     * @param loader 캐시 미스 시 DB 조회 로직
+     * @return 모임 상세 스냅샷
+     */
+    public MeetingDetailSnapshot get(Long meetingId, Supplier<MeetingDetailSnapshot> loader) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+
+        long generation = currentLocalGeneration();
+        MeetingDetailSnapshot snapshot = getLocal(meetingId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // 버전은 DB 조회 전에 읽어야 조회 도중 커밋된 변경을 놓치지 않음
+        RemoteLookup lookup = getRemote(meetingId);
+        snapshot = lookup.snapshot();
+        if (snapshot == null) {
+            snapshot = loader.get();
+            putRemote(meetingId, lookup.version(), snapshot);
+        }
+
+        putLocal(meetingId, snapshot, generation);
+        return snapshot;
+    }
+
+    /**
+     * 로컬 캐시와 Redis에서 모임 상세 정보를 제거하고 버전을 올립니다.
+     * - 진행 중인 캐시 미스 요청이 이전 값을 저장하더라도 버전이 달라 사용되지 않습니다.
+     *
+     * @param meetingId 모임 아이디
+     */
+    public void evict(Long meetingId) {
+        synchronized (localCache) {
+            localGeneration++;
+            localCache.remove(meetingId);
+        }
+
+        try {
+            // 버전 키는 값보다 오래 유지해야 만료 후 이전 버전 값이 다시 유효해지지 않음
+            redisService.increment(VERSION_KEY_PREFIX + meetingId, Duration.ofSeconds(redisTtlSeconds * 2));
+            redisService.deleteValues(KEY_PREFIX + meetingId);
+        } catch (DataAccessException e) {
+            log.warn("모임 상세 캐시 삭제 실패 - meetingId: {}", meetingId, e);
+        }
+    }
+
+    private long currentLocalGeneration() {
+        synchronized (localCache) {
+            return localGeneration;
+        }
+    }
+
+    private MeetingDetailSnapshot getLocal(Long meetingId) {
+        synchronized (localCache) {
+            LocalEntry entry = localCache.get(meetingId);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                localCache.remove(meetingId);
+                return null;
+            }
+
+            return entry.snapshot();
+        }
+    }
+
+    // 조회 전에 읽은 세대 이후 무효화가 있었다면 저장하지 않음
+    private void putLocal(Long meetingId, MeetingDetailSnapshot snapshot, long generation) {
+        long expiresAt = System.currentTimeMillis() + localTtlSeconds * 1000;
+        synchronized (localCache) {
+            if (generation == localGeneration) {
+                localCache.put(meetingId, new LocalEntry(snapshot, expiresAt));
+            }
+        }
+    }
+
+    /**
+     * Redis에서 값과 현재 버전을 함께 조회합니다.
+     * - 값의 버전이 현재 버전과 다르면 무효화 이전에 저장된 값이므로 미스로 처리합니다.
+     */
+    private RemoteLookup getRemote(Long meetingId) {
+        try {
+            List<String> values = redisService.getMultiValues(List.of(KEY_PREFIX + meetingId, VERSION_KEY_PREFIX + meetingId));
+            long version = values.get(1) != null ? Long.parseLong(values.get(1)) : 0L;
+            if (values.get(0) == null) {
+                return new RemoteLookup(version, null);
+            }
+
+            RemoteEntry entry = objectMapper.readValue(values.get(0), RemoteEntry.class);
+            return new RemoteLookup(version, entry.version() == version ? entry.snapshot() : null);
+        } catch (DataAccessException | JsonProcessingException | NumberFormatException e) {
+            log.warn("모임 상세 캐시 조회 실패 - meetingId: {}", meetingId, e);
+            return new RemoteLookup(UNKNOWN_VERSION, null);
+        }
+    }
+
+    private void putRemote(Long meetingId, long version, MeetingDetailSnapshot snapshot) {
+        if (version == UNKNOWN_VERSION) {
+            return;
+        }
+
+        try {
+            redisService.setValues(KEY_PREFIX + meetingId, objectMapper.writeValueAsString(new RemoteEntry(version, snapshot)),
+                    Duration.ofSeconds(redisTtlSeconds));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("모임 상세 캐시 저장 실패 - meetingId: {}", meetingId, e);
+        }
+    }
+
+    private record LocalEntry(MeetingDetailSnapshot snapshot, long expiresAt) {}
+
+    private record RemoteLookup(long version, MeetingDetailSnapshot snapshot) {}
+
+    // Redis에 저장하는 값 (저장 시점의 버전 포함)
+    record RemoteEntry(long version, MeetingDetailSnapshot snapshot) {}
+}
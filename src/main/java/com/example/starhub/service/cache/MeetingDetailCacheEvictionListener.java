@@ -0,0 +1,29 @@
+package com.example.starhub.service.cache;
+
+import com.example.starhub.event.MeetingChangeType;
+import com.example.starhub.event.MeetingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 변경 이벤트를 받아 모임 상세 캐시를 무효화합니다.
+ * - 트랜잭션 종료 후 삭제하고 버전을 올리므로, 그 사이 이전 값을 읽은 요청이 늦게 저장하더라도 사용되지 않습니다.
+ * - 좋아요 수는 캐시하지 않으므로 좋아요 변경은 무시합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MeetingDetailCacheEvictionListener {
+
+    private final MeetingDetailCache meetingDetailCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void evictAfterCompletion(MeetingChangedEvent event) {
+        if (event.changeType() == MeetingChangeType.LIKED || event.changeType() == MeetingChangeType.UNLIKED) {
+            return;
+        }
+
+        meetingDetailCache.evict(event.meetingId());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.starhub.service.cache;
+
+import com.example.starhub.dto.response.MeetingResponseDto;
+
+/**
+ * 모임 상세 정보 중 조회자와 무관한 부분
+ * - 조회자별 정보(userType, isLiked, applicationStatus)는 요청마다 따로 계산합니다.
+ * - 좋아요 수는 자주 바뀌므로 캐시하지 않고 조회자별 정보와 함께 조회합니다.
+ *
+ * @param creatorUsername 개설자 사용자명 (userType 판별용)
+ * @param postInfo 모임 정보 (개설자, 기술 스택 포함)
+ */
+public record MeetingDetailSnapshot(String creatorUsername, MeetingResponseDto postInfo) {
+}
@@ -0,0 +1,119 @@
+package com.example.starhub.service.cache;
+
+import com.example.starhub.entity.TechStackEntity;
+import com.example.starhub.entity.enums.TechCategory;
+import com.example.starhub.repository.TechStackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 기술 스택 사전 (인스턴스 내부, 불변 스냅샷)
+ * - 기술 스택 테이블은 작고 거의 바뀌지 않으므로 전체를 메모리에 올려 두고 조회합니다.
+ * - 애플리케이션 시작 시 불러오고, 변경 시 새 스냅샷을 만들어 참조만 교체합니다.
+ *   조회는 잠금 없이 현재 스냅샷을 읽습니다. (TechStackDictionaryRefreshListener)
+ * - 사전에 없는 아이디(아직 커밋되지 않았거나 갱신 전인 기술 스택)는 DB에서 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TechStackDictionary {
+
+    private final TechStackRepository techStackRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * DB에서 기술 스택 전체를 불러와 스냅샷을 교체합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        try {
+            snapshot = Snapshot.of(techStackRepository.findAll());
+            log.info("기술 스택 사전 갱신 - size: {}", snapshot.byId().size());
+        } catch (DataAccessException e) {
+            // 이전 스냅샷을 유지하고, 사전에 없는 아이디는 DB에서 조회
+            log.warn("기술 스택 사전 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 사전을 불러온 적이 있는지 확인합니다.
+     */
+    public boolean isLoaded() {
+        return snapshot.loaded();
+    }
+
+    /**
+     * 카테고리가 OTHER가 아닌 기술 스택 목록 (아이디 순)
+     */
+    public List<TechStackEntry> getSelectable() {
+        return snapshot.selectable();
+    }
+
+    /**
+     * 아이디로 기술 스택을 조회합니다.
+     * - 사전에 없는 아이디만 DB에서 한 번에 조회하며, 존재하지 않는 아이디는 결과에서 제외됩니다.
+     *
+     * @param ids 기술 스택 아이디 목록
+     * @return 아이디별 기술 스택
+     */
+    public Map<Long, TechStackEntry> getAll(Collection<Long> ids) {
+        Snapshot current = snapshot;
+        Map<Long, TechStackEntry> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+
+        for (Long id : ids) {
+            TechStackEntry entry = current.byId().get(id);
+            if (entry != null) {
+                result.put(id, entry);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            techStackRepository.findAllById(missingIds)
+                    .forEach(techStack -> result.put(techStack.getId(), TechStackEntry.from(techStack)));
+        }
+
+        return result;
+    }
+
+    /**
+     * 사전에 담기는 기술 스택 정보
+     */
+    public record TechStackEntry(Long id, String name, TechCategory category) {
+
+        static TechStackEntry from(TechStackEntity techStack) {
+            return new TechStackEntry(techStack.getId(), techStack.getName(), techStack.getCategory());
+        }
+    }
+
+    private record Snapshot(Map<Long, TechStackEntry> byId, List<TechStackEntry> selectable, boolean loaded) {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), List.of(), false);
+
+        private static Snapshot of(List<TechStackEntity> techStacks) {
+            List<TechStackEntry> entries = techStacks.stream()
+                    .map(TechStackEntry::from)
+                    .sorted(Comparator.comparing(TechStackEntry::id))
+                    .toList();
+
+            Map<Long, TechStackEntry> byId = entries.stream()
+                    .collect(Collectors.toUnmodifiableMap(TechStackEntry::id, entry -> entry));
+
+            List<TechStackEntry> selectable = entries.stream()
+                    .filter(entry -> entry.category() != TechCategory.OTHER)
+                    .toList();
+
+            return new Snapshot(byId, selectable, true);
+        }
+    }
+}
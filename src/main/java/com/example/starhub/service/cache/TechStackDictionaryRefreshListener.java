@@ -0,0 +1,55 @@
+package com.example.starhub.service.cache;
+
+import com.example.starhub.event.TechStackChangedEvent;
+import com.example.starhub.service.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 기술 스택 변경 시 기술 스택 사전을 갱신합니다.
+ * - 변경한 인스턴스는 커밋 이후 바로 갱신하고, Redis 채널로 다른 인스턴스에 갱신을 알립니다.
+ * - 자신이 보낸 메시지는 인스턴스 아이디로 구분해 무시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TechStackDictionaryRefreshListener implements MessageListener {
+
+    public static final String CHANNEL = "tech-stack:refresh";
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final TechStackDictionary techStackDictionary;
+    private final RedisService redisService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTechStackChanged(TechStackChangedEvent event) {
+        techStackDictionary.reload();
+
+        try {
+            redisService.publish(CHANNEL, INSTANCE_ID);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스는 사전에 없는 아이디를 DB에서 조회하므로 요청 결과에는 영향 없음
+            log.warn("기술 스택 사전 갱신 알림 실패", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String senderId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (INSTANCE_ID.equals(senderId)) {
+            return;
+        }
+
+        techStackDictionary.reload();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.starhub.service.facet;
+
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+
+import java.util.Map;
+
+/**
+ * 패싯 값별 모임 수
+ *
+ * @param total 모든 조건에 맞는 모임 수
+ * @param techStacks 기술 스택 아이디별 모임 수 (0개인 기술 스택은 제외)
+ * @param recruitmentTypes 모집 구분별 모임 수
+ * @param durations 진행 기간별 모임 수
+ * @param open 모집 중인 모임 수
+ * @param confirmed 확정된 모임 수
+ */
+public record MeetingFacetCounts(long total,
+                                 Map<Long, Long> techStacks,
+                                 Map<RecruitmentType, Long> recruitmentTypes,
+                                 Map<Duration, Long> durations,
+                                 long open,
+                                 long confirmed) {
+}
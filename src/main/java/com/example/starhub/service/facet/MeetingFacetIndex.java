@@ -0,0 +1,221 @@
+package com.example.starhub.service.facet;
+
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.repository.projection.MeetingFacetRow;
+import com.example.starhub.repository.projection.MeetingTechStackLink;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모임 패싯 인덱스 (인스턴스 내부, 압축 비트맵)
+ * - 기술 스택, 모집 구분, 진행 기간, 확정 여부 값마다 해당 모임 아이디 비트맵을 두고
+ *   패싯 개수를 비트맵 AND/OR 연산의 카디널리티로 계산합니다.
+ * - 시작 시 전체를 불러오고, 이후 모임 변경 시 해당 모임만 갱신합니다. (MeetingFacetIndexUpdater)
+ * - 비트맵은 스레드 안전하지 않으므로 읽기/쓰기 잠금으로 보호합니다.
+ * - 모임 아이디는 int 범위 안에 있어야 합니다.
+ */
+@Component
+public class MeetingFacetIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Bitmaps bitmaps = new Bitmaps();
+    private volatile boolean loaded;
+
+    /**
+     * 전체 모임으로 인덱스를 다시 만들고 교체합니다.
+     *
+     * @param meetings 모임 속성 목록
+     * @param links 모임과 기술 스택 연결 목록
+     */
+    public void reload(List<MeetingFacetRow> meetings, List<MeetingTechStackLink> links) {
+        Bitmaps rebuilt = new Bitmaps();
+        meetings.forEach(rebuilt::addAttributes);
+        links.forEach(link -> rebuilt.techStack(link.techStackId()).add(toIndex(link.meetingId())));
+        rebuilt.runOptimize();
+
+        lock.writeLock().lock();
+        try {
+            bitmaps = rebuilt;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모임 하나를 추가하거나 현재 속성으로 교체합니다.
+     *
+     * @param meeting 모임 속성
+     * @param techStackIds 모임에 연결된 기술 스택 아이디 목록
+     */
+    public void put(MeetingFacetRow meeting, Collection<Long> techStackIds) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.remove(toIndex(meeting.id()));
+            bitmaps.addAttributes(meeting);
+            techStackIds.forEach(techStackId -> bitmaps.techStack(techStackId).add(toIndex(meeting.id())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모임 하나를 인덱스에서 제거합니다.
+     */
+    public void remove(Long meetingId) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.remove(toIndex(meetingId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스를 불러온 적이 있는지 확인합니다.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 선택 조건에 맞는 모임 수를 패싯 값별로 계산합니다.
+     * - 각 패싯의 개수는 자기 자신을 제외한 나머지 조건만 적용해 계산합니다.
+     *   (예: 기술 스택 React를 선택해도 다른 기술 스택의 개수가 0이 되지 않음)
+     * - 값이 없는 조건은 적용하지 않고, 기술 스택은 하나라도 포함하면 해당합니다.
+     *
+     * @return 패싯 값별 모임 수
+     */
+    public MeetingFacetCounts count(RecruitmentType recruitmentType, Duration duration, Boolean isConfirmed, Collection<Long> techStackIds) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap all = bitmaps.all;
+            RoaringBitmap byRecruitmentType = recruitmentType != null ? bitmaps.recruitmentType(recruitmentType) : all;
+            RoaringBitmap byDuration = duration != null ? bitmaps.duration(duration) : all;
+            RoaringBitmap byConfirmed = isConfirmed != null ? bitmaps.confirmed(isConfirmed) : all;
+            RoaringBitmap byTechStack = techStackIds != null && !techStackIds.isEmpty()
+                    ? FastAggregation.or(techStackIds.stream().map(bitmaps::techStackOrEmpty).iterator())
+                    : all;
+
+            RoaringBitmap selected = FastAggregation.and(byRecruitmentType, byDuration, byConfirmed, byTechStack);
+
+            Map<Long, Long> techStackCounts = new HashMap<>();
+            RoaringBitmap exceptTechStack = FastAggregation.and(byRecruitmentType, byDuration, byConfirmed);
+            bitmaps.byTechStack.forEach((techStackId, bitmap) -> {
+                int count = RoaringBitmap.andCardinality(exceptTechStack, bitmap);
+                if (count > 0) {
+                    techStackCounts.put(techStackId, (long) count);
+                }
+            });
+
+            Map<RecruitmentType, Long> recruitmentTypeCounts = new EnumMap<>(RecruitmentType.class);
+            RoaringBitmap exceptRecruitmentType = FastAggregation.and(byDuration, byConfirmed, byTechStack);
+            for (RecruitmentType value : RecruitmentType.values()) {
+                recruitmentTypeCounts.put(value, (long) RoaringBitmap.andCardinality(exceptRecruitmentType, bitmaps.recruitmentType(value)));
+            }
+
+            Map<Duration, Long> durationCounts = new EnumMap<>(Duration.class);
+            RoaringBitmap exceptDuration = FastAggregation.and(byRecruitmentType, byConfirmed, byTechStack);
+            for (Duration value : Duration.values()) {
+                durationCounts.put(value, (long) RoaringBitmap.andCardinality(exceptDuration, bitmaps.duration(value)));
+            }
+
+            RoaringBitmap exceptConfirmed = FastAggregation.and(byRecruitmentType, byDuration, byTechStack);
+            long openCount = RoaringBitmap.andCardinality(exceptConfirmed, bitmaps.confirmed(false));
+            long confirmedCount = RoaringBitmap.andCardinality(exceptConfirmed, bitmaps.confirmed(true));
+
+            return new MeetingFacetCounts(selected.getLongCardinality(), techStackCounts,
+                    recruitmentTypeCounts, durationCounts, openCount, confirmedCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int toIndex(Long meetingId) {
+        return Math.toIntExact(meetingId);
+    }
+
+    /**
+     * 패싯 값별 비트맵 묶음
+     * - 속성이 없는 모임(null)은 해당 패싯 비트맵에 넣지 않습니다.
+     */
+    private static class Bitmaps {
+
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<Long, RoaringBitmap> byTechStack = new HashMap<>();
+        private final Map<RecruitmentType, RoaringBitmap> byRecruitmentType = new EnumMap<>(RecruitmentType.class);
+        private final Map<Duration, RoaringBitmap> byDuration = new EnumMap<>(Duration.class);
+        private final RoaringBitmap open = new RoaringBitmap();
+        private final RoaringBitmap confirmed = new RoaringBitmap();
+
+        private Bitmaps() {
+            for (RecruitmentType value : RecruitmentType.values()) {
+                byRecruitmentType.put(value, new RoaringBitmap());
+            }
+            for (Duration value : Duration.values()) {
+                byDuration.put(value, new RoaringBitmap());
+            }
+        }
+
+        private void addAttributes(MeetingFacetRow meeting) {
+            int index = toIndex(meeting.id());
+            all.add(index);
+            if (meeting.recruitmentType() != null) {
+                byRecruitmentType.get(meeting.recruitmentType()).add(index);
+            }
+            if (meeting.duration() != null) {
+                byDuration.get(meeting.duration()).add(index);
+            }
+            confirmed(Boolean.TRUE.equals(meeting.isConfirmed())).add(index);
+        }
+
+        private void remove(int index) {
+            all.remove(index);
+            byTechStack.values().forEach(bitmap -> bitmap.remove(index));
+            byRecruitmentType.values().forEach(bitmap -> bitmap.remove(index));
+            byDuration.values().forEach(bitmap -> bitmap.remove(index));
+            open.remove(index);
+            confirmed.remove(index);
+        }
+
+        // 쓰기 잠금 안에서만 호출 (없으면 새 비트맵을 만들어 등록)
+        private RoaringBitmap techStack(Long techStackId) {
+            return byTechStack.computeIfAbsent(techStackId, id -> new RoaringBitmap());
+        }
+
+        // 읽기 잠금 안에서 호출 (맵을 변경하지 않음)
+        private RoaringBitmap techStackOrEmpty(Long techStackId) {
+            return byTechStack.getOrDefault(techStackId, EMPTY);
+        }
+
+        private RoaringBitmap recruitmentType(RecruitmentType recruitmentType) {
+            return byRecruitmentType.get(recruitmentType);
+        }
+
+        private RoaringBitmap duration(Duration duration) {
+            return byDuration.get(duration);
+        }
+
+        private RoaringBitmap confirmed(boolean isConfirmed) {
+            return isConfirmed ? confirmed : open;
+        }
+
+        private void runOptimize() {
+            all.runOptimize();
+            byTechStack.values().forEach(RoaringBitmap::runOptimize);
+            byRecruitmentType.values().forEach(RoaringBitmap::runOptimize);
+            byDuration.values().forEach(RoaringBitmap::runOptimize);
+            open.runOptimize();
+            confirmed.runOptimize();
+        }
+    }
+}
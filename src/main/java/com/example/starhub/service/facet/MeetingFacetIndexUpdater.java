@@ -0,0 +1,109 @@
+package com.example.starhub.service.facet;
+
+import com.example.starhub.event.MeetingChangeType;
+import com.example.starhub.event.MeetingChangedEvent;
+import com.example.starhub.repository.MeetingRepository;
+import com.example.starhub.repository.MeetingTechStackRepository;
+import com.example.starhub.repository.projection.MeetingFacetRow;
+import com.example.starhub.repository.projection.MeetingTechStackId;
+import com.example.starhub.service.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 모임 패싯 인덱스를 DB와 맞춥니다.
+ * - 애플리케이션 시작 시 전체를 불러옵니다.
+ * - 모임 생성/수정/확정/삭제가 커밋되면 해당 모임만 DB에서 다시 읽어 반영하고,
+ *   Redis 채널로 다른 인스턴스에 모임 아이디를 알립니다. (좋아요 변경은 패싯과 무관하므로 무시)
+ * - 자신이 보낸 메시지는 인스턴스 아이디로 구분해 무시합니다.
+ * - 전체 로딩과 모임 갱신은 순서대로 처리해, 로딩 중 커밋된 변경이 로딩 결과에 덮어쓰이지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingFacetIndexUpdater implements MessageListener {
+
+    public static final String CHANNEL = "meeting-facet:update";
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+    private static final String SEPARATOR = ":";
+
+    private final MeetingFacetIndex meetingFacetIndex;
+    private final MeetingRepository meetingRepository;
+    private final MeetingTechStackRepository meetingTechStackRepository;
+    private final RedisService redisService;
+
+    /**
+     * DB에서 모임 전체를 불러와 인덱스를 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        try {
+            List<MeetingFacetRow> meetings = meetingRepository.findAllFacetRows();
+            meetingFacetIndex.reload(meetings, meetingTechStackRepository.findAllLinks());
+            log.info("모임 패싯 인덱스 갱신 - size: {}", meetings.size());
+        } catch (DataAccessException e) {
+            // 이전 인덱스를 유지하고, 불러온 적이 없으면 조회 시 다시 시도
+            log.warn("모임 패싯 인덱스 갱신 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        if (event.changeType() == MeetingChangeType.LIKED || event.changeType() == MeetingChangeType.UNLIKED) {
+            return;
+        }
+
+        try {
+            sync(event.meetingId());
+            redisService.publish(CHANNEL, INSTANCE_ID + SEPARATOR + event.meetingId());
+        } catch (DataAccessException e) {
+            // 패싯 개수가 잠시 어긋날 뿐 요청 결과에는 영향 없음 (재시작 시 전체 로딩으로 복구)
+            log.warn("모임 패싯 인덱스 갱신 실패 - meetingId: {}, type: {}", event.meetingId(), event.changeType(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.lastIndexOf(SEPARATOR);
+        if (separatorIndex < 0 || INSTANCE_ID.equals(body.substring(0, separatorIndex))) {
+            return;
+        }
+
+        try {
+            sync(Long.valueOf(body.substring(separatorIndex + 1)));
+        } catch (NumberFormatException | DataAccessException e) {
+            log.warn("모임 패싯 인덱스 갱신 실패 - message: {}", body, e);
+        }
+    }
+
+    /**
+     * 모임 하나를 DB의 현재 상태로 반영합니다. (삭제된 모임은 인덱스에서 제거)
+     */
+    private synchronized void sync(Long meetingId) {
+        Optional<MeetingFacetRow> meeting = meetingRepository.findFacetRowById(meetingId);
+        if (meeting.isEmpty()) {
+            meetingFacetIndex.remove(meetingId);
+            return;
+        }
+
+        List<Long> techStackIds = meetingTechStackRepository.findTechStackIdsByMeetingIds(List.of(meetingId)).stream()
+                .map(MeetingTechStackId::getTechStackId)
+                .toList();
+        meetingFacetIndex.put(meeting.get(), techStackIds);
+    }
+}
@@ -5,6 +5,7 @@ import com.example.starhub.dto.security.CustomUserDetails;
 import com.example.starhub.entity.UserEntity;
 import com.example.starhub.response.code.ErrorCode;
 import com.example.starhub.util.JWTUtil;
+import com.example.starhub.util.JwtClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -43,11 +44,14 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 토큰은 한 번만 파싱하고 클레임을 재사용
+        JwtClaims claims = jwtUtil.parse(accessToken);
+
         // 토큰 유효성 검증
-        if (validateAccessToken(response, accessToken)) return;
+        if (validateAccessToken(response, claims)) return;
 
         // 사용자 정보 설정
-        setAuthentication(accessToken);
+        setAuthentication(claims);
 
         // 요청 처리 계속 진행
         filterChain.doFilter(request, response);
@@ -60,21 +64,21 @@ public class JWTFilter extends OncePerRequestFilter {
      * - 토큰 카테고리가 "access"인지 확인
      *
      * @param response 응답 객체
-     * @param accessToken Access Token
+     * @param claims Access Token 클레임
      * @return 유효성 검증 결과 (true: 실패, false: 성공)
      */
-    private boolean validateAccessToken(HttpServletResponse response, String accessToken) {
-        String username = jwtUtil.getUsername(accessToken);
+    private boolean validateAccessToken(HttpServletResponse response, JwtClaims claims) {
+        String username = claims.username();
 
         // 만료된 토큰인지 확인
-        if (jwtUtil.isExpired(accessToken)) {
+        if (claims.isExpired()) {
             log.error("Access Token expired for user: {}", username);
             ResponseUtil.writeErrorResponse(response, ErrorCode.UNAUTHORIZED);
             return true;
         }
 
         // 토큰 카테고리가 "access"인지 확인
-        if (!"access".equals(jwtUtil.getCategory(accessToken))) {
+        if (!"access".equals(claims.category())) {
             log.error("Invalid token category for user: {}", username);
             ResponseUtil.writeErrorResponse(response, ErrorCode.UNAUTHORIZED);
             return true;
@@ -88,11 +92,11 @@ public class JWTFilter extends OncePerRequestFilter {
      *
      * - 토큰에서 사용자 정보를 추출하고, SecurityContextHolder에 인증 객체를 설정합니다.
      *
-     * @param accessToken Access Token
+     * @param claims Access Token 클레임
      */
-    private void setAuthentication(String accessToken) {
-        String username = jwtUtil.getUsername(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+    private void setAuthentication(JwtClaims claims) {
+        String username = claims.username();
+        String role = claims.role();
 
         UserEntity user = UserEntity.createUserWithRole(username, role);
         CustomUserDetails customUserDetails = new CustomUserDetails(user);
@@ -0,0 +1,278 @@
+package com.example.starhub.service.leaderboard;
+
+import com.example.starhub.dto.response.PopularLeaderboardVerifyResponseDto;
+import com.example.starhub.entity.MeetingEntity;
+import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.repository.MeetingRepository;
+import com.example.starhub.repository.projection.PopularMeetingScore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis Sorted Set 기반 인기글 순위표
+ * - 모집 구분별 Sorted Set: 점수 = 좋아요 수
+ * - 마감임박 Sorted Set: 점수 = -(마감일 epochDay * 1,000,000) + 좋아요 수
+ *   -> 마감일이 빠를수록, 같은 마감일이면 좋아요가 많을수록 점수가 높음
+ * - 확정되지 않은 모임만 순위표에 포함됩니다. (JPQL 인기글 쿼리와 동일한 조건)
+ * - 순위표가 준비되지 않았거나 Redis 장애 시 호출 측에서 DB 쿼리로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularMeetingLeaderboard {
+
+    private static final String KEY_PREFIX = "popular:meetings:";
+    private static final String EXPIRING_KEY = KEY_PREFIX + "expiring";
+    private static final String READY_KEY = KEY_PREFIX + "ready";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final long EXPIRING_SCORE_SCALE = 1_000_000L;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeetingRepository meetingRepository;
+
+    @Value("${starhub.popular.leaderboard.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 모집 구분별 인기글 아이디를 좋아요 수 내림차순으로 조회합니다. (ZREVRANGE)
+     *
+     * @param recruitmentType 모집 구분
+     * @param limit 조회할 개수
+     * @return 모임 아이디 리스트, 순위표를 사용할 수 없으면 Optional.empty()
+     */
+    public Optional<List<Long>> findTopMeetingIds(RecruitmentType recruitmentType, int limit) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        try {
+            Set<Object> members = redisTemplate.opsForZSet().reverseRange(typeKey(recruitmentType), 0, limit - 1);
+            return Optional.of(toMeetingIds(members));
+        } catch (DataAccessException e) {
+            log.warn("인기글 순위표 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 마감임박 인기글 아이디를 마감일 오름차순, 좋아요 수 내림차순으로 조회합니다.
+     * - 마감일이 오늘 이전인 모임은 순위표에서 제거합니다.
+     *
+     * @param limit 조회할 개수
+     * @return 모임 아이디 리스트, 순위표를 사용할 수 없으면 Optional.empty()
+     */
+    public Optional<List<Long>> findTopExpiringMeetingIds(int limit) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+
+        try {
+            // 마감일이 오늘 이하인 모임의 점수는 모두 -(오늘 epochDay * SCALE) 이상
+            double expiredMinScore = -(double) (LocalDate.now().toEpochDay() * EXPIRING_SCORE_SCALE);
+
+            ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
+            zSetOps.removeRangeByScore(EXPIRING_KEY, expiredMinScore, Double.POSITIVE_INFINITY);
+
+            Set<Object> members = zSetOps.reverseRangeByScore(
+                    EXPIRING_KEY, Double.NEGATIVE_INFINITY, expiredMinScore - 1, 0, limit);
+            return Optional.of(toMeetingIds(members));
+        } catch (DataAccessException e) {
+            log.warn("마감임박 인기글 순위표 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 모임 하나의 순위 정보를 DB 값 기준으로 갱신합니다.
+     * - 삭제되었거나 확정된 모임은 모든 순위표에서 제거합니다.
+     * - 좋아요 수를 증감하지 않고 DB의 like_count로 덮어써서 이벤트 중복/유실 시에도 값이 어긋나지 않습니다.
+     *
+     * @param meetingId 모임 아이디
+     */
+    public void sync(Long meetingId) {
+        if (!isReady()) {
+            return;
+        }
+
+        String member = String.valueOf(meetingId);
+        Optional<PopularMeetingScore> score = meetingRepository.findPopularMeetingScoreById(meetingId)
+                .filter(s -> Boolean.FALSE.equals(s.getIsConfirmed()));
+
+        ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
+
+        for (RecruitmentType type : RecruitmentType.values()) {
+            if (score.isPresent() && type == score.get().getRecruitmentType()) {
+                zSetOps.add(typeKey(type), member, score.get().getLikeCount());
+            } else {
+                zSetOps.remove(typeKey(type), member);
+            }
+        }
+
+        if (score.isPresent() && isExpiringCandidate(score.get(), LocalDate.now())) {
+            zSetOps.add(EXPIRING_KEY, member, expiringScore(score.get()));
+        } else {
+            zSetOps.remove(EXPIRING_KEY, member);
+        }
+    }
+
+    /**
+     * DB에서 순위표 전체를 다시 만듭니다.
+     * - 임시 키에 채운 뒤 RENAME으로 교체하여 재구성 중에도 기존 순위표를 읽을 수 있습니다.
+     */
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        Map<String, Set<TypedTuple<Object>>> tuplesByKey = new HashMap<>();
+
+        for (PopularMeetingScore score : meetingRepository.findPopularMeetingScores()) {
+            String member = String.valueOf(score.getId());
+
+            if (score.getRecruitmentType() != null) {
+                tuplesByKey.computeIfAbsent(typeKey(score.getRecruitmentType()), key -> new HashSet<>())
+                        .add(new DefaultTypedTuple<>(member, (double) score.getLikeCount()));
+            }
+
+            if (isExpiringCandidate(score, today)) {
+                tuplesByKey.computeIfAbsent(EXPIRING_KEY, key -> new HashSet<>())
+                        .add(new DefaultTypedTuple<>(member, expiringScore(score)));
+            }
+        }
+
+        for (RecruitmentType type : RecruitmentType.values()) {
+            replace(typeKey(type), tuplesByKey.get(typeKey(type)));
+        }
+        replace(EXPIRING_KEY, tuplesByKey.get(EXPIRING_KEY));
+
+        redisTemplate.opsForValue().set(READY_KEY, today.toString());
+        log.info("인기글 순위표 재구성 완료: {}개 키", tuplesByKey.size());
+    }
+
+    /**
+     * 애플리케이션 시작 시 순위표가 없으면 DB에서 재구성합니다. (콜드 스타트)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("인기글 순위표 초기화 실패, DB 쿼리로 대체합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 순위표 결과를 현재 JPQL 인기글 쿼리 결과와 비교합니다.
+     * - 좋아요 수가 같은 모임의 순서는 두 저장소에서 다를 수 있으므로 아이디가 아닌 순위 기준 값(좋아요 수, 마감일)을 비교합니다.
+     *
+     * @param limit 비교할 순위 개수
+     * @return 순위 종류별 비교 결과
+     */
+    public List<PopularLeaderboardVerifyResponseDto> verify(int limit) {
+        List<PopularLeaderboardVerifyResponseDto> results = new ArrayList<>();
+
+        for (RecruitmentType type : RecruitmentType.values()) {
+            results.add(compare(
+                    type.name(),
+                    findTopMeetingIds(type, limit).orElse(Collections.emptyList()),
+                    meetingRepository.findTop3PopularMeetingIds(type, PageRequest.of(0, limit)),
+                    MeetingEntity::getLikeCount));
+        }
+
+        results.add(compare(
+                "EXPIRING",
+                findTopExpiringMeetingIds(limit).orElse(Collections.emptyList()),
+                meetingRepository.findTop3ExpiringPopularMeetingsIds(PageRequest.of(0, limit)),
+                meeting -> List.of(meeting.getEndDate(), meeting.getLikeCount())));
+
+        return results;
+    }
+
+    private PopularLeaderboardVerifyResponseDto compare(String ranking, List<Long> redisIds, List<Long> databaseIds,
+                                                        Function<MeetingEntity, Object> rankKey) {
+        Set<Long> allIds = new HashSet<>(redisIds);
+        allIds.addAll(databaseIds);
+
+        Map<Long, Object> rankKeys = meetingRepository.findAllById(allIds).stream()
+                .collect(Collectors.toMap(MeetingEntity::getId, rankKey));
+
+        List<Object> redisRankKeys = redisIds.stream().map(rankKeys::get).collect(Collectors.toList());
+        List<Object> databaseRankKeys = databaseIds.stream().map(rankKeys::get).collect(Collectors.toList());
+
+        return PopularLeaderboardVerifyResponseDto.builder()
+                .ranking(ranking)
+                .redisMeetingIds(redisIds)
+                .databaseMeetingIds(databaseIds)
+                .matched(redisRankKeys.equals(databaseRankKeys))
+                .build();
+    }
+
+    private boolean isReady() {
+        if (!enabled) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+        } catch (DataAccessException e) {
+            log.warn("인기글 순위표 상태 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void replace(String key, Set<TypedTuple<Object>> tuples) {
+        if (tuples == null || tuples.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String rebuildKey = key + REBUILD_SUFFIX;
+        redisTemplate.delete(rebuildKey);
+        redisTemplate.opsForZSet().add(rebuildKey, tuples);
+        redisTemplate.rename(rebuildKey, key);
+    }
+
+    /**
+     * JPQL 조건(m.endDate > CURRENT_TIMESTAMP)과 동일하게 내일 이후 마감인 모임만 포함합니다.
+     */
+    private boolean isExpiringCandidate(PopularMeetingScore score, LocalDate today) {
+        return score.getEndDate() != null && score.getEndDate().isAfter(today);
+    }
+
+    private double expiringScore(PopularMeetingScore score) {
+        long likeCount = Math.min(score.getLikeCount(), EXPIRING_SCORE_SCALE - 1);
+        return -(double) (score.getEndDate().toEpochDay() * EXPIRING_SCORE_SCALE) + likeCount;
+    }
+
+    private String typeKey(RecruitmentType recruitmentType) {
+        return KEY_PREFIX + recruitmentType.name();
+    }
+
+    private List<Long> toMeetingIds(Set<Object> members) {
+        if (members == null) {
+            return Collections.emptyList();
+        }
+
+        return members.stream()
+                .map(member -> Long.valueOf(String.valueOf(member)))
+                .collect(Collectors.toList());
+    }
+}
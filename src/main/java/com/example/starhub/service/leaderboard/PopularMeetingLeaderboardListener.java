@@ -0,0 +1,31 @@
+package com.example.starhub.service.leaderboard;
+
+import com.example.starhub.event.MeetingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 변경 이벤트를 받아 인기글 순위표를 갱신합니다.
+ * - 커밋된 변경만 반영하도록 AFTER_COMMIT 단계에서 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularMeetingLeaderboardListener {
+
+    private final PopularMeetingLeaderboard popularMeetingLeaderboard;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        try {
+            popularMeetingLeaderboard.sync(event.meetingId());
+        } catch (DataAccessException e) {
+            // 순위표 갱신 실패가 요청 결과에 영향을 주지 않도록 로그만 남김 (관리자 재구성으로 복구)
+            log.warn("인기글 순위표 갱신 실패 - meetingId: {}, type: {}", event.meetingId(), event.changeType(), e);
+        }
+    }
+}
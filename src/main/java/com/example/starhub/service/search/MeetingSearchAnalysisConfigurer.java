@@ -0,0 +1,27 @@
+package com.example.starhub.service.search;
+
+import com.example.starhub.entity.SearchAnalyzerNames;
+import org.apache.lucene.analysis.cjk.CJKBigramFilterFactory;
+import org.apache.lucene.analysis.cjk.CJKWidthFilterFactory;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * 모임 검색 분석기 설정
+ * - 한글은 띄어쓰기 단위로만 나누면 "스프링스터디" 같은 붙여 쓴 단어가 검색되지 않으므로 2글자(bigram) 단위로도 색인합니다.
+ * - 영문 기술 스택 이름은 대소문자를 구분하지 않습니다.
+ */
+public class MeetingSearchAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer(SearchAnalyzerNames.MEETING).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(CJKWidthFilterFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(CJKBigramFilterFactory.class)
+                        .param("outputUnigrams", "true");
+    }
+}
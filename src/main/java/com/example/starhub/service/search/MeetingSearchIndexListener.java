@@ -0,0 +1,35 @@
+package com.example.starhub.service.search;
+
+import com.example.starhub.entity.MeetingEntity;
+import com.example.starhub.event.MeetingChangeType;
+import com.example.starhub.event.MeetingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+
+/**
+ * 모임 삭제 이벤트를 받아 검색 인덱스에서 모임을 제거합니다.
+ * - 생성/수정은 Hibernate Search가 엔티티 변경을 감지해 커밋 시 색인하지만,
+ *   모임 삭제는 벌크 DELETE로 처리되어 감지되지 않으므로 직접 제거 요청을 등록합니다.
+ * - 같은 트랜잭션의 색인 계획에 등록되므로 커밋 시 반영되고, 롤백되면 함께 취소됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MeetingSearchIndexListener {
+
+    private final EntityManager entityManager;
+
+    @EventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        if (event.changeType() != MeetingChangeType.DELETED) {
+            return;
+        }
+
+        Search.session(entityManager)
+                .indexingPlan()
+                .purge(MeetingEntity.class, event.meetingId(), null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.starhub.service.search;
+
+import com.example.starhub.entity.MeetingEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 모임 검색 인덱스 재구성
+ * - MySQL의 모임 전체를 여러 스레드에서 배치 단위로 읽어 인덱스를 다시 만듭니다. (콜드 스타트, 인덱스 손상 복구 용도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingSearchIndexer {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${starhub.search.mass-indexer.threads:4}")
+    private int threads;
+
+    @Value("${starhub.search.mass-indexer.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 인덱스를 비우고 모임 전체를 다시 색인합니다. (완료될 때까지 대기)
+     */
+    public void rebuild() throws InterruptedException {
+        long start = System.currentTimeMillis();
+
+        Search.mapping(entityManagerFactory)
+                .scope(MeetingEntity.class)
+                .massIndexer()
+                .threadsToLoadObjects(threads)
+                .batchSizeToLoadObjects(batchSize)
+                .startAndWait();
+
+        log.info("모임 검색 인덱스 재구성 완료 - time: {}ms", System.currentTimeMillis() - start);
+    }
+}
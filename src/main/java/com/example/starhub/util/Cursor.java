@@ -0,0 +1,51 @@
+package com.example.starhub.util;
+
+import com.example.starhub.exception.InvalidCursorException;
+import com.example.starhub.response.code.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 위치 정보
+ * - (createdAt, id) 내림차순 정렬에서 마지막으로 조회한 행을 가리킵니다.
+ * - 클라이언트에는 Base64 URL 인코딩된 불투명한 문자열로 전달합니다.
+ *
+ * @param createdAt 마지막 행의 생성일
+ * @param id 마지막 행의 아이디 (생성일이 같은 행의 순서 보장)
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 불투명한 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열 커서를 해석합니다.
+     *
+     * @param encoded 인코딩된 커서
+     * @return 커서
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidCursorException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.starhub.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위도/경도 격자
+ * - 지구를 0.05도(위도 방향 약 5.5km) 크기의 칸으로 나누고, 칸마다 정수 번호를 붙입니다.
+ * - 모임은 자신이 속한 칸 번호(geoCell)를 인덱스 컬럼으로 저장하고,
+ *   근처 모임 검색은 반경을 덮는 칸 번호들로 인덱스를 조회한 뒤 실제 거리로 걸러냅니다.
+ * - 칸 크기를 바꾸면 저장된 칸 번호를 모두 다시 계산해야 합니다. (MeetingRepository.backfillGeoCells)
+ */
+public final class GeoGrid {
+
+    public static final double CELL_DEGREES = 0.05;
+
+    // 경도 방향 칸 수 (360 / 0.05)
+    public static final int COLUMNS = 7200;
+
+    // IN 절로 넘길 칸 번호 수의 상한 (고위도에서는 경도 방향 칸 수가 급격히 늘어남)
+    public static final int MAX_CELLS = 1_000;
+
+    private static final double METERS_PER_DEGREE_LATITUDE = 111_320.0;
+
+    private GeoGrid() {
+    }
+
+    /**
+     * 좌표가 속한 칸 번호를 계산합니다.
+     *
+     * @return 칸 번호 (좌표가 없으면 null)
+     */
+    public static Integer cellOf(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+
+        return rowOf(latitude) * COLUMNS + columnOf(longitude);
+    }
+
+    /**
+     * 중심 좌표에서 반경 안의 영역을 덮는 칸 번호 목록을 계산합니다.
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusMeters 반경 (미터)
+     * @return 칸 번호 목록
+     */
+    public static List<Integer> cellsWithin(double latitude, double longitude, double radiusMeters) {
+        BoundingBox box = boundingBox(latitude, longitude, radiusMeters);
+        if (countCells(box) > MAX_CELLS) {
+            throw new IllegalArgumentException("칸 수가 상한(" + MAX_CELLS + ")을 넘습니다. rowRangeWithin을 사용하세요.");
+        }
+
+        List<Integer> cells = new ArrayList<>();
+        for (int row = rowOf(box.minLatitude()); row <= rowOf(box.maxLatitude()); row++) {
+            for (int column = columnOf(box.minLongitude()); column <= columnOf(box.maxLongitude()); column++) {
+                cells.add(row * COLUMNS + column);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 반경을 덮는 칸 수가 IN 절 상한(MAX_CELLS) 이하인지 확인합니다.
+     */
+    public static boolean isWithinCellLimit(double latitude, double longitude, double radiusMeters) {
+        return countCells(boundingBox(latitude, longitude, radiusMeters)) <= MAX_CELLS;
+    }
+
+    /**
+     * 반경을 덮는 행(위도 띠) 전체의 칸 번호 범위를 계산합니다.
+     * - 칸 수가 상한을 넘는 고위도 검색에서 IN 절 대신 범위 조건으로 사용합니다.
+     * - 칸 번호는 행 우선이므로 연속된 행은 연속된 번호 범위가 됩니다.
+     */
+    public static CellRange rowRangeWithin(double latitude, double longitude, double radiusMeters) {
+        BoundingBox box = boundingBox(latitude, longitude, radiusMeters);
+        return new CellRange(rowOf(box.minLatitude()) * COLUMNS, rowOf(box.maxLatitude()) * COLUMNS + COLUMNS - 1);
+    }
+
+    /**
+     * 중심 좌표에서 반경 안의 영역을 감싸는 위도/경도 범위를 계산합니다.
+     * - 날짜 변경선을 넘는 범위는 경계에서 자릅니다.
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusMeters) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE_LATITUDE;
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        double longitudeDelta = cosLatitude > 1e-6
+                ? radiusMeters / (METERS_PER_DEGREE_LATITUDE * cosLatitude)
+                : 180.0;
+
+        return new BoundingBox(
+                Math.max(-90.0, latitude - latitudeDelta),
+                Math.min(90.0, latitude + latitudeDelta),
+                Math.max(-180.0, longitude - longitudeDelta),
+                Math.min(180.0, longitude + longitudeDelta));
+    }
+
+    private static long countCells(BoundingBox box) {
+        long rows = rowOf(box.maxLatitude()) - rowOf(box.minLatitude()) + 1;
+        long columns = columnOf(box.maxLongitude()) - columnOf(box.minLongitude()) + 1;
+        return rows * columns;
+    }
+
+    private static int rowOf(double latitude) {
+        int rows = (int) (180 / CELL_DEGREES);
+        return Math.min(rows - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int columnOf(double longitude) {
+        return Math.min(COLUMNS - 1, (int) Math.floor((longitude + 180) / CELL_DEGREES));
+    }
+
+    public record BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {}
+
+    public record CellRange(int minCell, int maxCell) {}
+}
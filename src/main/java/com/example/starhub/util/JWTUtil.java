@@ -1,5 +1,8 @@
 package com.example.starhub.util;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -12,41 +15,70 @@ import java.util.Date;
 @Component
 public class JWTUtil {
 
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser; // 불변 객체로 스레드 간 공유 가능 - 요청마다 다시 만들지 않음
+    private final JwtClaimsCache claimsCache;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${spring.jwt.claims-cache-size:10000}") int claimsCacheSize) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        claimsCache = new JwtClaimsCache(claimsCacheSize);
+    }
+
+    /**
+     * 토큰을 한 번만 검증/파싱하여 클레임을 반환합니다.
+     * - 같은 토큰은 만료 전까지 캐시된 클레임을 재사용합니다.
+     * - 만료된 토큰도 서명이 유효하면 클레임을 반환하며, isExpired()로 만료 여부를 확인합니다.
+     *
+     * @param token JWT 원문
+     * @return 토큰 클레임
+     */
+    public JwtClaims parse(String token) {
+        return claimsCache.getOrParse(token, this::parseClaims);
     }
 
     public String getCategory(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+        return parse(token).category();
     }
 
     public String getUsername(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return parse(token).username();
     }
 
     public String getRole(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return parse(token).role();
     }
 
     public Boolean isExpired(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return parse(token).isExpired();
     }
 
     public String createJwt(String category, String username, String role, Long expiredMs) {
+        long now = System.currentTimeMillis();
 
+        // 서명 알고리즘을 명시하여 키 길이 기반 알고리즘 추론을 생략
         return Jwts.builder()
                 .claim("category", category)
                 .claim("username", username)
                 .claim("role", role)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiredMs))
-                .signWith(secretKey)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiredMs))
+                .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
+
+    private JwtClaims parseClaims(String token) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            return JwtClaims.from(claims);
+        } catch (ExpiredJwtException e) {
+            // 서명 검증 후 만료 검사에서 발생하므로 클레임은 신뢰할 수 있음
+            return JwtClaims.from(e.getClaims());
+        }
+    }
 }
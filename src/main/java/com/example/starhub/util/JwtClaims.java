@@ -0,0 +1,29 @@
+package com.example.starhub.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 한 번의 파싱으로 꺼낸 JWT 클레임
+ * - 서명 검증이 끝난 토큰에서만 생성됩니다.
+ *
+ * @param category 토큰 카테고리 (access / refresh)
+ * @param username 사용자명
+ * @param role 사용자 권한
+ * @param expiresAt 만료 시각
+ */
+public record JwtClaims(String category, String username, String role, Instant expiresAt) {
+
+    public static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.get("category", String.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(Instant.now());
+    }
+}
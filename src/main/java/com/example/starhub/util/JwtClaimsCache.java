@@ -0,0 +1,67 @@
+package com.example.starhub.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 검증된 JWT 클레임 캐시
+ * - 토큰 원문 대신 SHA-256 다이제스트를 키로 사용합니다.
+ * - 크기 제한 LRU이며, 토큰 만료 시각이 지난 항목은 조회 시 제거합니다.
+ * - 만료된 토큰의 클레임은 저장하지 않습니다.
+ */
+public class JwtClaimsCache {
+
+    private final Map<String, JwtClaims> cache;
+
+    public JwtClaimsCache(int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 클레임을 반환하고, 없으면 parser로 파싱한 뒤 저장합니다.
+     *
+     * @param token JWT 원문
+     * @param parser 서명 검증 및 클레임 파싱 로직
+     * @return 토큰 클레임
+     */
+    public JwtClaims getOrParse(String token, Function<String, JwtClaims> parser) {
+        String key = digest(token);
+
+        synchronized (cache) {
+            JwtClaims cached = cache.get(key);
+            if (cached != null) {
+                if (!cached.isExpired()) {
+                    return cached;
+                }
+                cache.remove(key);
+            }
+        }
+
+        JwtClaims claims = parser.apply(token);
+        if (!claims.isExpired()) {
+            synchronized (cache) {
+                cache.put(key, claims);
+            }
+        }
+        return claims;
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.starhub.performance;
+
+import com.example.starhub.performance.metrics.EndpointMetricsSnapshot;
+import com.example.starhub.performance.metrics.PerformanceMetricsRegistry;
+import com.example.starhub.performance.recorder.SlowRequestRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceFilterTest {
+
+    private final PerformanceMetricsRegistry performanceMetricsRegistry = new PerformanceMetricsRegistry();
+    private final SlowRequestRecorder slowRequestRecorder = new SlowRequestRecorder(10);
+    private final PerformanceFilter performanceFilter = new PerformanceFilter(
+            new PerformanceSampler(0.0, ""), performanceMetricsRegistry, slowRequestRecorder);
+
+    @Test
+    void doFilter_notSampledWarningRequest_isRecorded() throws Exception {
+        FilterChain manyQueries = (request, response) -> {
+            for (int i = 0; i < 5; i++) {
+                PerformanceContext.recordQuery("select * from meeting_entity where id = " + i, 1_000);
+            }
+        };
+
+        performanceFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/meetings"), new MockHttpServletResponse(), manyQueries);
+
+        List<EndpointMetricsSnapshot> snapshots = performanceMetricsRegistry.snapshot();
+        assertEquals(1, snapshots.size());
+        assertEquals("GET /api/v1/meetings", snapshots.get(0).endpoint());
+        assertEquals(1, snapshots.get(0).warningRequests());
+        assertEquals(1, slowRequestRecorder.dump().size());
+    }
+
+    @Test
+    void doFilter_notSampledNormalRequest_isSkipped() throws Exception {
+        performanceFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/meetings"), new MockHttpServletResponse(),
+                (request, response) -> PerformanceContext.recordQuery("select 1", 1_000));
+
+        assertTrue(performanceMetricsRegistry.snapshot().isEmpty());
+        assertTrue(slowRequestRecorder.dump().isEmpty());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.starhub.performance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceSamplerTest {
+
+    @Test
+    void isSampled_withDefaultRate_appliesToAllEndpoints() {
+        assertTrue(new PerformanceSampler(1.0, "").isSampled("GET", "/api/v1/meetings"));
+        assertFalse(new PerformanceSampler(0.0, "").isSampled("GET", "/api/v1/meetings"));
+    }
+
+    @Test
+    void isSampled_withEndpointRate_matchesMethodAndPattern() {
+        PerformanceSampler performanceSampler = new PerformanceSampler(1.0,
+                "GET /api/v1/meetings/{meetingId}=0.0, POST /api/v1/meetings = 0");
+
+        assertFalse(performanceSampler.isSampled("GET", "/api/v1/meetings/42"));
+        assertFalse(performanceSampler.isSampled("POST", "/api/v1/meetings"));
+        assertTrue(performanceSampler.isSampled("DELETE", "/api/v1/meetings/42"));
+        assertTrue(performanceSampler.isSampled("GET", "/api/v1/meetings"));
+    }
+
+    @Test
+    void constructor_withMalformedEntry_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceSampler(1.0, "GET /api/v1/meetings"));
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceSampler(1.0, "/api/v1/meetings=0.1"));
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceSampler(1.0, "GET /api/v1/meetings=fast"));
+    }
+
+    @Test
+    void constructor_withOutOfRangeRate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceSampler(1.5, ""));
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceSampler(-0.1, ""));
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceSampler(1.0, "GET /api/v1/meetings=2"));
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceSampler(1.0, "GET /api/v1/meetings=NaN"));
+    }
+}
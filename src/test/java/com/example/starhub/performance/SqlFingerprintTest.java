@@ -0,0 +1,28 @@
+package com.example.starhub.performance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlFingerprintTest {
+
+    @Test
+    void of_replacesLiteralsAndWhitespace() {
+        String fingerprint = SqlFingerprint.of("SELECT *  FROM meeting\n WHERE id = 42 AND title = 'it''s'");
+
+        assertEquals("select * from meeting where id = ? and title = ?", fingerprint);
+    }
+
+    @Test
+    void of_collapsesInList() {
+        assertEquals(SqlFingerprint.of("select * from likes where meeting_id in (?, ?, ?)"),
+                SqlFingerprint.of("select * from likes where meeting_id in (?)"));
+    }
+
+    @Test
+    void of_keepsDigitsInsideIdentifiers() {
+        String fingerprint = SqlFingerprint.of("select meetingent0_.id from meeting meetingent0_ where meetingent0_.id=?");
+
+        assertEquals("select meetingent0_.id from meeting meetingent0_ where meetingent0_.id=?", fingerprint);
+    }
+}
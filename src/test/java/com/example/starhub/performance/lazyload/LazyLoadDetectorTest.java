@@ -0,0 +1,87 @@
+package com.example.starhub.performance.lazyload;
+
+import com.example.starhub.dto.request.ApplicationRequestDto;
+import com.example.starhub.entity.ApplicationEntity;
+import com.example.starhub.entity.MeetingEntity;
+import com.example.starhub.entity.UserEntity;
+import com.example.starhub.entity.enums.ApplicationStatus;
+import com.example.starhub.repository.ApplicationRepository;
+import com.example.starhub.repository.MeetingRepository;
+import com.example.starhub.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "starhub.jpa.lazy-load-detector.mode=fail")
+@Transactional
+class LazyLoadDetectorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private MeetingEntity meeting;
+    private ApplicationEntity application;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity creator = userRepository.save(UserEntity.createUser("creatorUser", "creatorPassword"));
+        UserEntity applicant = userRepository.save(UserEntity.createUser("applicantUser", "applicantPassword"));
+
+        meeting = meetingRepository.save(MeetingEntity.builder()
+                .title("Test Meeting")
+                .creator(creator)
+                .isConfirmed(false)
+                .build());
+
+        application = ApplicationEntity.createApplication(applicant, meeting,
+                ApplicationRequestDto.builder().content("This is a test application.").build());
+        application.approve();
+        applicationRepository.save(application);
+
+        // 이후 조회가 영속성 컨텍스트가 아닌 DB에서 이루어지도록 비움
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void proxyInitialization_shouldThrowLazyLoadDetectedException() {
+        ApplicationEntity found = applicationRepository.findById(application.getId()).orElseThrow();
+
+        LazyLoadDetectedException e = assertThrows(LazyLoadDetectedException.class,
+                () -> found.getApplicant().getUsername());
+        assertTrue(e.getMessage().contains("UserEntity#"));
+    }
+
+    @Test
+    void collectionInitialization_shouldThrowLazyLoadDetectedException() {
+        MeetingEntity found = meetingRepository.findById(meeting.getId()).orElseThrow();
+
+        LazyLoadDetectedException e = assertThrows(LazyLoadDetectedException.class,
+                () -> found.getMeetingTechStacks().size());
+        assertTrue(e.getMessage().contains("MeetingEntity.meetingTechStacks#"));
+    }
+
+    @Test
+    void entityGraph_loadsApplicantWithoutLazyLoading() {
+        List<ApplicationEntity> approved = applicationRepository.findByMeetingAndStatus(meeting, ApplicationStatus.APPROVED);
+
+        assertEquals(1, approved.size());
+        assertEquals("applicantUser", approved.get(0).getApplicant().getUsername());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.starhub.performance.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogLinearHistogramTest {
+
+    private static final long MAX_VALUE = (1L << 40) - 1;
+
+    @Test
+    void indexOf_belowLinearLimit_usesValueAsIndex() {
+        assertEquals(63, LogLinearHistogram.indexOf(63));
+        assertEquals(63, LogLinearHistogram.upperBoundOf(63));
+    }
+
+    @Test
+    void indexOf_atSubBucketBoundaries_movesToNextBucket() {
+        assertEquals(64, LogLinearHistogram.indexOf(64));
+        assertEquals(64, LogLinearHistogram.indexOf(65));
+        assertEquals(65, LogLinearHistogram.upperBoundOf(64));
+
+        assertEquals(95, LogLinearHistogram.indexOf(127));
+        assertEquals(127, LogLinearHistogram.upperBoundOf(95));
+
+        assertEquals(96, LogLinearHistogram.indexOf(128));
+        assertEquals(131, LogLinearHistogram.upperBoundOf(96));
+    }
+
+    @Test
+    void indexOf_maxValue_usesLastBucket() {
+        int index = LogLinearHistogram.indexOf(MAX_VALUE);
+
+        assertEquals(MAX_VALUE, LogLinearHistogram.upperBoundOf(index));
+        assertTrue(LogLinearHistogram.indexOf(MAX_VALUE - 1) <= index);
+    }
+
+    @Test
+    void record_overMaxValue_isClamped() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(MAX_VALUE, histogram.getMax());
+        assertEquals(MAX_VALUE, histogram.getValueAtPercentile(100));
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void getValueAtPercentile_staysWithinRelativeError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(50_000, histogram.getValueAtPercentile(50), 50_000 * 0.03);
+        assertEquals(90_000, histogram.getValueAtPercentile(90), 90_000 * 0.03);
+        assertEquals(99_000, histogram.getValueAtPercentile(99), 99_000 * 0.03);
+        assertEquals(100_000, histogram.getValueAtPercentile(100));
+        assertEquals(50_000.5, histogram.getMean(), 0.001);
+    }
+
+    @Test
+    void getValueAtPercentile_withoutRecord_returnsZero() {
+        assertEquals(0, new LogLinearHistogram().getValueAtPercentile(99));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.starhub.performance.metrics;
+
+import com.example.starhub.performance.PerformanceMonitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceMetricsRegistryTest {
+
+    private final PerformanceMetricsRegistry registry = new PerformanceMetricsRegistry();
+
+    @Test
+    void record_overMaxEndpoints_rollsNewEndpointsIntoOther() {
+        for (int i = 0; i < 500; i++) {
+            registry.record("GET /api/v1/unknown/" + i, new PerformanceMonitor(false));
+        }
+
+        registry.record("GET /api/v1/unknown/500", new PerformanceMonitor(false));
+        registry.record("GET /api/v1/unknown/501", new PerformanceMonitor(false));
+        registry.record("GET /api/v1/unknown/0", new PerformanceMonitor(false));
+
+        Map<String, EndpointMetricsSnapshot> snapshots = registry.snapshot().stream()
+                .collect(Collectors.toMap(EndpointMetricsSnapshot::endpoint, Function.identity()));
+
+        assertEquals(501, snapshots.size());
+        assertEquals(2, snapshots.get("OTHER").requests());
+        assertEquals(2, snapshots.get("GET /api/v1/unknown/0").requests());
+        assertFalse(snapshots.containsKey("GET /api/v1/unknown/500"));
+    }
+
+    @Test
+    void reset_clearsEndpoints() {
+        registry.record("GET /api/v1/meetings", new PerformanceMonitor(false));
+
+        registry.reset();
+
+        assertEquals(List.of(), registry.snapshot());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.starhub.performance.recorder;
+
+import com.example.starhub.performance.PerformanceMonitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestRecorderTest {
+
+    private final SlowRequestRecorder slowRequestRecorder = new SlowRequestRecorder(3);
+
+    @Test
+    void dump_belowCapacity_returnsNewestFirst() {
+        record(2);
+
+        assertEquals(List.of("GET /1", "GET /0"), endpoints(slowRequestRecorder.dump()));
+    }
+
+    @Test
+    void record_overCapacity_overwritesOldest() {
+        record(5);
+
+        List<SlowRequestRecord> records = slowRequestRecorder.dump();
+
+        assertEquals(List.of("GET /4", "GET /3", "GET /2"), endpoints(records));
+        assertEquals(List.of(4L, 3L, 2L), records.stream().map(SlowRequestRecord::sequence).collect(Collectors.toList()));
+    }
+
+    @Test
+    void clear_removesAllRecords() {
+        record(5);
+
+        slowRequestRecorder.clear();
+
+        assertTrue(slowRequestRecorder.dump().isEmpty());
+    }
+
+    @Test
+    void record_afterClear_keepsSequence() {
+        record(5);
+        slowRequestRecorder.clear();
+
+        slowRequestRecorder.record("GET /5", new PerformanceMonitor(true));
+
+        List<SlowRequestRecord> records = slowRequestRecorder.dump();
+        assertEquals(1, records.size());
+        assertEquals(5L, records.get(0).sequence());
+    }
+
+    private void record(int count) {
+        for (int i = 0; i < count; i++) {
+            slowRequestRecorder.record("GET /" + i, new PerformanceMonitor(true));
+        }
+    }
+
+    private List<String> endpoints(List<SlowRequestRecord> records) {
+        return records.stream().map(SlowRequestRecord::endpoint).collect(Collectors.toList());
+    }
+}
@@ -83,4 +83,20 @@ class LikeServiceTest {
 
         assertEquals(ErrorCode.LIKE_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createLike_shouldIncreaseLikeCount() {
+        likeService.createLike(user.getUsername(), meeting.getId());
+
+        assertEquals(1L, meetingRepository.findById(meeting.getId()).orElseThrow().getLikeCount());
+    }
+
+    @Test
+    void deleteLike_shouldDecreaseLikeCount() {
+        likeService.createLike(user.getUsername(), meeting.getId());
+
+        likeService.deleteLike(user.getUsername(), meeting.getId());
+
+        assertEquals(0L, meetingRepository.findById(meeting.getId()).orElseThrow().getLikeCount());
+    }
+}
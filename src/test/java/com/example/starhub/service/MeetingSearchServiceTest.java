@@ -0,0 +1,134 @@
+package com.example.starhub.service;
+
+import com.example.starhub.dto.request.CreateMeetingRequestDto;
+import com.example.starhub.dto.response.MeetingResponseDto;
+import com.example.starhub.dto.response.MeetingSummaryResponseDto;
+import com.example.starhub.entity.MeetingEntity;
+import com.example.starhub.entity.UserEntity;
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.repository.UserRepository;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class MeetingSearchServiceTest {
+
+    @Autowired
+    private MeetingSearchService meetingSearchService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserEntity creator;
+    private final List<Long> indexedMeetingIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        creator = userRepository.save(UserEntity.createUser("creatorUser", "creatorPassword"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 색인은 커밋 전에 직접 반영했으므로 롤백과 별개로 인덱스에서 제거
+        SearchSession searchSession = Search.session(entityManager);
+        indexedMeetingIds.forEach(id -> searchSession.indexingPlan().purge(MeetingEntity.class, id, null));
+        searchSession.indexingPlan().execute();
+        searchSession.workspace(MeetingEntity.class).refresh();
+    }
+
+    @Test
+    void searchMeetings_WithPartOfCompoundWord_ReturnsMeeting() {
+        MeetingResponseDto meeting = saveMeeting("코틀린코루틴스터디 모집", "함께 공부해요");
+        flushIndex();
+
+        Page<MeetingSummaryResponseDto> result = meetingSearchService.searchMeetings(null, "코루틴", 0, 10);
+
+        assertEquals(List.of(meeting.getId()), ids(result));
+    }
+
+    @Test
+    void searchMeetings_TitleMatch_RanksAboveDescriptionMatch() {
+        MeetingResponseDto descriptionMatch = saveMeeting("서버 개발 모임", "Quarkusframework로 API 서버를 만듭니다");
+        MeetingResponseDto titleMatch = saveMeeting("Quarkusframework 스터디", "함께 공부해요");
+        flushIndex();
+
+        Page<MeetingSummaryResponseDto> result = meetingSearchService.searchMeetings(null, "quarkusframework", 0, 10);
+
+        assertEquals(List.of(titleMatch.getId(), descriptionMatch.getId()), ids(result));
+    }
+
+    @Test
+    void searchMeetings_AfterDeleteMeeting_ExcludesMeeting() {
+        MeetingResponseDto meeting = saveMeeting("Micronautframework 스터디", "함께 공부해요");
+        flushIndex();
+
+        meetingService.deleteMeeting(creator.getUsername(), meeting.getId());
+        flushIndex();
+
+        Page<MeetingSummaryResponseDto> result = meetingSearchService.searchMeetings(null, "micronautframework", 0, 10);
+
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(0, result.getTotalElements());
+    }
+
+    @Test
+    void searchMeetings_WithBlankQuery_ReturnsEmptyPage() {
+        saveMeeting("Micronautframework 스터디", "함께 공부해요");
+        flushIndex();
+
+        Page<MeetingSummaryResponseDto> result = meetingSearchService.searchMeetings(null, "  ", 0, 10);
+
+        assertTrue(result.isEmpty());
+        assertEquals(0, result.getTotalElements());
+    }
+
+    private MeetingResponseDto saveMeeting(String title, String description) {
+        CreateMeetingRequestDto requestDto = new CreateMeetingRequestDto(
+                RecruitmentType.STUDY, 5, Duration.ONE_MONTH,
+                LocalDate.now().plusMonths(2), "서울 강남구",
+                37.5665, 126.9780, title,
+                description, "포트폴리오 제작", "기타 정보", List.of(), List.of()
+        );
+        MeetingResponseDto meetingResponse = meetingService.createMeeting(creator.getUsername(), requestDto);
+        indexedMeetingIds.add(meetingResponse.getId());
+        return meetingResponse;
+    }
+
+    /**
+     * 테스트 트랜잭션은 커밋되지 않으므로 색인 계획을 직접 실행하고 검색 결과에 보이도록 새로 고침
+     */
+    private void flushIndex() {
+        entityManager.flush();
+        SearchSession searchSession = Search.session(entityManager);
+        searchSession.indexingPlan().execute();
+        searchSession.workspace(MeetingEntity.class).refresh();
+    }
+
+    private List<Long> ids(Page<MeetingSummaryResponseDto> page) {
+        return page.getContent().stream()
+                .map(MeetingSummaryResponseDto::getId)
+                .toList();
+    }
+}
@@ -3,8 +3,12 @@ package com.example.starhub.service;
 import com.example.starhub.dto.request.*;
 import com.example.starhub.dto.response.ApplicationResponseDto;
 import com.example.starhub.dto.response.ConfirmMeetingResponseDto;
+import com.example.starhub.dto.response.CursorResponseDto;
 import com.example.starhub.dto.response.MeetingDetailResponseDto;
 import com.example.starhub.dto.response.MeetingResponseDto;
+import com.example.starhub.dto.response.MeetingSummaryResponseDto;
+import com.example.starhub.dto.response.NearbyMeetingResponseDto;
+import com.example.starhub.entity.ApplicationEntity;
 import com.example.starhub.entity.TechStackEntity;
 import com.example.starhub.entity.UserEntity;
 import com.example.starhub.entity.enums.ApplicationStatus;
@@ -17,9 +21,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -87,6 +93,39 @@ class MeetingServiceTest {
         assertEquals(requestDto.getTechStackIds().size() + requestDto.getOtherTechStacks().size(), response.getTechStacks().size());
     }
 
+    @Test
+    void createMeeting_WithOtherTechStacks_ReusesExistingAndCreatesMissing() {
+        CreateMeetingRequestDto requestDto = new CreateMeetingRequestDto(
+                RecruitmentType.STUDY, 5, Duration.ONE_MONTH,
+                LocalDate.now().plusMonths(2), "서울 강남구",
+                37.5665, 126.9780, "백엔드 스터디",
+                "스프링과 JPA 학습", "포트폴리오 제작", "기타 정보", List.of(), List.of("OtherTool", "NewTool", "NewTool")
+        );
+
+        MeetingResponseDto response = meetingService.createMeeting(creator.getUsername(), requestDto);
+
+        assertEquals(List.of("OtherTool", "NewTool"), response.getTechStacks());
+        assertEquals(1, techStackRepository.findAllByNameIn(List.of("OtherTool")).size());
+        assertEquals(TechCategory.OTHER, techStackRepository.findByName("NewTool").get().getCategory());
+        assertEquals(2, meetingTechStackRepository.findTechStackIdsByMeetingIds(List.of(response.getId())).size());
+    }
+
+    @Test
+    void createMeeting_WithOtherTechStacksDifferingInCase_LinksOnce() {
+        CreateMeetingRequestDto requestDto = new CreateMeetingRequestDto(
+                RecruitmentType.STUDY, 5, Duration.ONE_MONTH,
+                LocalDate.now().plusMonths(2), "서울 강남구",
+                37.5665, 126.9780, "백엔드 스터디",
+                "스프링과 JPA 학습", "포트폴리오 제작", "기타 정보", List.of(), List.of("Go", "go", "GO")
+        );
+
+        MeetingResponseDto response = meetingService.createMeeting(creator.getUsername(), requestDto);
+
+        assertEquals(List.of("Go"), response.getTechStacks());
+        assertEquals(1, techStackRepository.findAllByNameIn(List.of("Go")).size());
+        assertEquals(1, meetingTechStackRepository.findTechStackIdsByMeetingIds(List.of(response.getId())).size());
+    }
+
     @Test
     void createMeeting_shouldThrowUserNotFoundException() {
         CreateMeetingRequestDto requestDto = buildCreateMeetingRequestDto();
@@ -96,6 +135,107 @@ class MeetingServiceTest {
         });
     }
 
+    @Test
+    void getMeetingList_Success() {
+        MeetingResponseDto likedMeeting = saveMeeting();
+        MeetingResponseDto notLikedMeeting = saveMeeting();
+        likeService.createLike(applicant.getUsername(), likedMeeting.getId());
+
+        Page<MeetingSummaryResponseDto> response = meetingService.getMeetingList(applicant.getUsername(), 0, 10);
+
+        MeetingSummaryResponseDto liked = findSummary(response, likedMeeting.getId());
+        MeetingSummaryResponseDto notLiked = findSummary(response, notLikedMeeting.getId());
+        assertEquals(likedMeeting.getTechStacks(), liked.getTechStacks());
+        assertEquals(1L, liked.getLikeDto().getLikeCount());
+        assertTrue(liked.getLikeDto().getIsLiked());
+        assertEquals(0L, notLiked.getLikeDto().getLikeCount());
+        assertFalse(notLiked.getLikeDto().getIsLiked());
+    }
+
+    @Test
+    void getMeetingList_Anonymous_doesNotIncludeIsLiked() {
+        MeetingResponseDto meetingResponse = saveMeeting();
+
+        Page<MeetingSummaryResponseDto> response = meetingService.getMeetingList(null, 0, 10);
+
+        assertNull(findSummary(response, meetingResponse.getId()).getLikeDto().getIsLiked());
+    }
+
+    @Test
+    void getMeetingList_WithFilter_returnsOnlyMatchingMeetings() {
+        MeetingResponseDto meetingResponse = saveMeeting(); // STUDY, ONE_MONTH, techStackList.get(0)
+        Long techStackId = techStackList.get(0).getId();
+
+        MeetingFilterRequestDto matching = new MeetingFilterRequestDto(
+                RecruitmentType.STUDY, Duration.ONE_MONTH, false,
+                LocalDate.now(), LocalDate.now().plusMonths(3), List.of(techStackId, techStackList.get(1).getId()));
+        Page<MeetingSummaryResponseDto> response = meetingService.getMeetingList(applicant.getUsername(), matching, 0, 10);
+
+        assertEquals(1, response.getTotalElements());
+        assertEquals(meetingResponse.getId(), response.getContent().get(0).getId());
+
+        MeetingFilterRequestDto otherType = new MeetingFilterRequestDto(
+                RecruitmentType.PROJECT, null, null, null, null, List.of(techStackId));
+        assertTrue(meetingService.getMeetingList(applicant.getUsername(), otherType, 0, 10).isEmpty());
+
+        MeetingFilterRequestDto otherTechStack = new MeetingFilterRequestDto(
+                null, null, null, null, null, List.of(techStackList.get(1).getId()));
+        assertTrue(meetingService.getMeetingList(applicant.getUsername(), otherTechStack, 0, 10).isEmpty());
+    }
+
+    @Test
+    void getMeetingListByCursor_returnsAllMeetingsWithoutDuplicates() {
+        List<Long> savedIds = List.of(saveMeeting().getId(), saveMeeting().getId(), saveMeeting().getId());
+
+        List<Long> fetchedIds = new ArrayList<>();
+        String cursor = null;
+        CursorResponseDto<MeetingSummaryResponseDto> response;
+        do {
+            response = meetingService.getMeetingListByCursor(applicant.getUsername(), cursor, 2);
+            response.getContent().forEach(summary -> fetchedIds.add(summary.getId()));
+            cursor = response.getNextCursor();
+        } while (response.getHasNext());
+
+        assertEquals(fetchedIds.size(), fetchedIds.stream().distinct().count());
+        assertTrue(fetchedIds.containsAll(savedIds));
+        // 최신순 정렬
+        assertTrue(fetchedIds.indexOf(savedIds.get(2)) < fetchedIds.indexOf(savedIds.get(0)));
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void getMeetingListByCursor_withInvalidCursor_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> {
+            meetingService.getMeetingListByCursor(null, "invalid-cursor", 2);
+        });
+    }
+
+    @Test
+    void getNearbyMeetings_returnsMeetingsWithinRadiusSortedByDistance() {
+        MeetingResponseDto meetingResponse = saveMeeting(); // 37.5665, 126.9780
+
+        List<NearbyMeetingResponseDto> response = meetingService.getNearbyMeetings(applicant.getUsername(), 37.5670, 126.9785, 1000, 100);
+
+        NearbyMeetingResponseDto nearby = response.stream()
+                .filter(dto -> dto.getMeeting().getId().equals(meetingResponse.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(nearby.getDistance() <= 1000);
+        for (int i = 1; i < response.size(); i++) {
+            assertTrue(response.get(i - 1).getDistance() <= response.get(i).getDistance());
+        }
+
+        List<NearbyMeetingResponseDto> farAway = meetingService.getNearbyMeetings(applicant.getUsername(), 35.1796, 129.0756, 1000, 100);
+        assertTrue(farAway.stream().noneMatch(dto -> dto.getMeeting().getId().equals(meetingResponse.getId())));
+    }
+
+    @Test
+    void getNearbyMeetings_withInvalidCoordinate_shouldThrowInvalidCoordinateException() {
+        assertThrows(InvalidCoordinateException.class, () -> {
+            meetingService.getNearbyMeetings(null, 91.0, 126.9780, 1000, 20);
+        });
+    }
+
     @Test
     void getMeetingDetail_Success_Creator() {
         CreateMeetingRequestDto request = buildCreateMeetingRequestDto();
@@ -146,6 +286,19 @@ class MeetingServiceTest {
         assertFalse(response.getPostInfo().getIsConfirmed());
     }
 
+    @Test
+    void getMeetingDetail_Anonymous_HidesViewerState() {
+        MeetingResponseDto meetingResponse = saveMeeting();
+        likeService.createLike(applicant.getUsername(), meetingResponse.getId());
+
+        MeetingDetailResponseDto response = meetingService.getMeetingDetail(null, meetingResponse.getId());
+
+        assertNull(response.getIsApplication());
+        assertNull(response.getApplicationStatus());
+        assertEquals(1L, response.getLikeDto().getLikeCount());
+        assertNull(response.getLikeDto().getIsLiked());
+    }
+
     @Test
     void getMeetingDetail_ShouldThrowMeetingNotFoundException() {
         Long invalidMeetingId = 9999L;
@@ -184,6 +337,19 @@ class MeetingServiceTest {
         assertTrue(response.getLikeDto().getIsLiked());
     }
 
+    @Test
+    void getMeetingDetail_ReflectsLikeAfterPreviousView() {
+        MeetingResponseDto meetingResponse = saveMeeting();
+        meetingService.getMeetingDetail(applicant.getUsername(), meetingResponse.getId());
+
+        likeService.createLike(applicant.getUsername(), meetingResponse.getId());
+
+        MeetingDetailResponseDto response = meetingService.getMeetingDetail(applicant.getUsername(), meetingResponse.getId());
+
+        assertEquals(1L, response.getLikeDto().getLikeCount());
+        assertTrue(response.getLikeDto().getIsLiked());
+    }
+
     @Test
     void getMeetingDetail_NotLikedMeeting() {
         MeetingResponseDto meetingResponse = saveMeeting();
@@ -304,6 +470,20 @@ class MeetingServiceTest {
         assertFalse(meetingRepository.findById(meetingResponse.getId()).isPresent());
     }
 
+    @Test
+    void deleteMeeting_WithLikesAndApplications_Success() {
+
+        MeetingResponseDto meetingResponse = saveMeeting();
+        ApplicationResponseDto applicationResponse = saveApplication(meetingResponse, applicant.getUsername());
+        likeService.createLike(applicant.getUsername(), meetingResponse.getId());
+
+        meetingService.deleteMeeting(creator.getUsername(), meetingResponse.getId());
+
+        assertFalse(meetingRepository.findById(meetingResponse.getId()).isPresent());
+        assertFalse(applicationRepository.findById(applicationResponse.getId()).isPresent());
+        assertTrue(meetingTechStackRepository.findTechStackIdsByMeetingIds(List.of(meetingResponse.getId())).isEmpty());
+    }
+
     @Test
     void deleteMeeting_shouldThrowMeetingNotFoundException() {
 
@@ -386,6 +566,93 @@ class MeetingServiceTest {
     }
 
 
+    @Test
+    void confirmMeetingMember_ApprovesSelectedAndRejectsOtherPending() {
+
+        MeetingResponseDto meetingResponse = saveMeeting();
+        ApplicationResponseDto approved = saveApplication(meetingResponse, applicant.getUsername());
+        ApplicationResponseDto rejected = saveApplication(meetingResponse, failedApplicant.getUsername());
+
+        ConfirmMeetingRequestDto requestDto = new ConfirmMeetingRequestDto(List.of(approved.getId()));
+        meetingService.confirmMeetingMember(creator.getUsername(), meetingResponse.getId(), requestDto);
+
+        assertEquals(ApplicationStatus.APPROVED, applicationRepository.findById(approved.getId()).get().getStatus());
+        assertEquals(ApplicationStatus.REJECTED, applicationRepository.findById(rejected.getId()).get().getStatus());
+    }
+
+    @Test
+    void confirmMeetingMember_WithEmptyApplicationIds_RejectsAllPending() {
+
+        MeetingResponseDto meetingResponse = saveMeeting();
+        ApplicationResponseDto first = saveApplication(meetingResponse, applicant.getUsername());
+        ApplicationResponseDto second = saveApplication(meetingResponse, failedApplicant.getUsername());
+
+        ConfirmMeetingRequestDto requestDto = new ConfirmMeetingRequestDto(List.of());
+        List<ConfirmMeetingResponseDto> response = meetingService.confirmMeetingMember(creator.getUsername(), meetingResponse.getId(), requestDto);
+
+        assertEquals(1, response.size());
+        assertEquals(ApplicationStatus.REJECTED, applicationRepository.findById(first.getId()).get().getStatus());
+        assertEquals(ApplicationStatus.REJECTED, applicationRepository.findById(second.getId()).get().getStatus());
+        assertTrue(meetingRepository.findById(meetingResponse.getId()).get().getIsConfirmed());
+    }
+
+    @Test
+    void confirmMeetingMember_WithApplicationOfOtherMeeting_shouldThrowInvalidApplicationIdException() {
+
+        MeetingResponseDto meetingResponse = saveMeeting();
+        saveApplication(meetingResponse, applicant.getUsername());
+        MeetingResponseDto otherMeetingResponse = saveMeeting();
+        ApplicationResponseDto otherApplication = saveApplication(otherMeetingResponse, failedApplicant.getUsername());
+
+        ConfirmMeetingRequestDto requestDto = new ConfirmMeetingRequestDto(List.of(otherApplication.getId()));
+
+        assertThrows(InvalidApplicationIdException.class, () -> {
+            meetingService.confirmMeetingMember(creator.getUsername(), meetingResponse.getId(), requestDto);
+        });
+        assertEquals(ApplicationStatus.PENDING, applicationRepository.findById(otherApplication.getId()).get().getStatus());
+    }
+
+    @Test
+    void confirmMeetingMember_WithNonPendingApplication_shouldThrowIllegalStateException() {
+
+        MeetingResponseDto meetingResponse = saveMeeting();
+        ApplicationResponseDto applicationResponse = saveApplication(meetingResponse, applicant.getUsername());
+
+        ApplicationEntity application = applicationRepository.findById(applicationResponse.getId()).get();
+        application.reject();
+        applicationRepository.saveAndFlush(application);
+
+        ConfirmMeetingRequestDto requestDto = new ConfirmMeetingRequestDto(List.of(applicationResponse.getId()));
+
+        assertThrows(IllegalStateException.class, () -> {
+            meetingService.confirmMeetingMember(creator.getUsername(), meetingResponse.getId(), requestDto);
+        });
+    }
+
+    @Test
+    void confirmMeetingMember_ReturnsCreatorFollowedByApprovedMembers() {
+
+        creator.createProfile("creatorImage", "creatorNickname", "creatorName", 30, "bio", "creator@email.com", "010-0000-0000");
+        applicant.createProfile("applicantImage", "applicantNickname", "applicantName", 25, "bio", "applicant@email.com", "010-1111-1111");
+        failedApplicant.createProfile("failedImage", "failedNickname", "failedName", 20, "bio", "failed@email.com", "010-2222-2222");
+        userRepository.saveAll(List.of(creator, applicant, failedApplicant));
+
+        MeetingResponseDto meetingResponse = saveMeeting();
+        ApplicationResponseDto first = saveApplication(meetingResponse, applicant.getUsername());
+        ApplicationResponseDto second = saveApplication(meetingResponse, failedApplicant.getUsername());
+
+        ConfirmMeetingRequestDto requestDto = new ConfirmMeetingRequestDto(List.of(second.getId(), first.getId()));
+        List<ConfirmMeetingResponseDto> response = meetingService.confirmMeetingMember(creator.getUsername(), meetingResponse.getId(), requestDto);
+
+        assertEquals(3, response.size());
+        assertEquals("creatorName", response.get(0).getName());
+        assertEquals("applicantName", response.get(1).getName());
+        assertEquals("applicantNickname", response.get(1).getNickname());
+        assertEquals("applicant@email.com", response.get(1).getEmail());
+        assertEquals("failedName", response.get(2).getName());
+    }
+
+
     @Test
     void getConfirmedMembers_Success_AsCreator() {
 
@@ -445,6 +712,13 @@ class MeetingServiceTest {
         });
     }
 
+    private MeetingSummaryResponseDto findSummary(Page<MeetingSummaryResponseDto> page, Long meetingId) {
+        return page.getContent().stream()
+                .filter(summary -> summary.getId().equals(meetingId))
+                .findFirst()
+                .orElseThrow();
+    }
+
     private ApplicationResponseDto saveApplication(MeetingResponseDto meetingResponse, String applicant) {
         ApplicationRequestDto applicationRequestDto = buildApplicationRequestDto();
         ApplicationResponseDto responseDto = applicationService.createApplication(applicant, meetingResponse.getId(), applicationRequestDto);
@@ -3,6 +3,7 @@ package com.example.starhub.service;
 import com.example.starhub.dto.request.ApplicationRequestDto;
 import com.example.starhub.dto.request.CreateProfileRequestDto;
 import com.example.starhub.dto.request.UpdateProfileRequestDto;
+import com.example.starhub.dto.response.CursorResponseDto;
 import com.example.starhub.dto.response.MeetingSummaryResponseDto;
 import com.example.starhub.dto.response.ProfileResponseDto;
 import com.example.starhub.entity.MeetingEntity;
@@ -325,6 +326,49 @@ class MyPageServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testGetCreatedMeetingsByCursor_pagesInCreatedOrder() {
+        CursorResponseDto<MeetingSummaryResponseDto> first = myPageService.getCreatedMeetingsByCursor(creator.getUsername(), null, 3);
+
+        assertEquals(3, first.getContent().size());
+        assertTrue(first.getHasNext());
+        assertEquals("Test Meeting 5", first.getContent().get(0).getTitle());
+
+        CursorResponseDto<MeetingSummaryResponseDto> second = myPageService.getCreatedMeetingsByCursor(creator.getUsername(), first.getNextCursor(), 3);
+
+        assertEquals(2, second.getContent().size());
+        assertFalse(second.getHasNext());
+        assertNull(second.getNextCursor());
+        assertEquals("Test Meeting 2", second.getContent().get(0).getTitle());
+        assertEquals("Test Meeting 1", second.getContent().get(1).getTitle());
+    }
+
+    @Test
+    void testGetLikedMeetingsByCursor_pagesInLikedOrder() {
+        createLikes(0, 5, applicant.getUsername());
+
+        CursorResponseDto<MeetingSummaryResponseDto> first = myPageService.getLikedMeetingsByCursor(applicant.getUsername(), null, 3);
+        CursorResponseDto<MeetingSummaryResponseDto> second = myPageService.getLikedMeetingsByCursor(applicant.getUsername(), first.getNextCursor(), 3);
+
+        assertEquals("Test Meeting 5", first.getContent().get(0).getTitle());
+        assertTrue(first.getContent().get(0).getLikeDto().getIsLiked());
+        assertEquals(2, second.getContent().size());
+        assertEquals("Test Meeting 1", second.getContent().get(1).getTitle());
+    }
+
+    @Test
+    void testGetAppliedMeetingsByCursor_pagesInAppliedOrder() {
+        createApplications(0, 5);
+
+        CursorResponseDto<MeetingSummaryResponseDto> first = myPageService.getAppliedMeetingsByCursor(applicant.getUsername(), null, 3);
+        CursorResponseDto<MeetingSummaryResponseDto> second = myPageService.getAppliedMeetingsByCursor(applicant.getUsername(), first.getNextCursor(), 3);
+
+        assertEquals(3, first.getContent().size());
+        assertEquals(2, second.getContent().size());
+        assertFalse(second.getHasNext());
+        assertEquals("Test Meeting 1", second.getContent().get(1).getTitle());
+    }
+
     private void saveUserProfile() {
         CreateProfileRequestDto createProfileRequest = new CreateProfileRequestDto("profileImage", "nickname", "name", 20, "bio", "email", "phoneNumber");
         userService.createUserProfile(creator.getUsername(), createProfileRequest);
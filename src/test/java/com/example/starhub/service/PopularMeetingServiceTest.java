@@ -26,7 +26,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+// 트랜잭션 롤백 테스트에서는 커밋 이후 갱신되는 Redis 순위표를 사용할 수 없으므로 DB 쿼리 경로를 검증
+@SpringBootTest(properties = "starhub.popular.leaderboard.enabled=false")
 @Transactional
 @Nested
 class PopularMeetingServiceTest {
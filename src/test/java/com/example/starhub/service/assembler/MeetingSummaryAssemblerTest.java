@@ -0,0 +1,97 @@
+package com.example.starhub.service.assembler;
+
+import com.example.starhub.dto.response.MeetingSummaryResponseDto;
+import com.example.starhub.entity.MeetingEntity;
+import com.example.starhub.entity.UserEntity;
+import com.example.starhub.repository.MeetingRepository;
+import com.example.starhub.repository.UserRepository;
+import com.example.starhub.service.LikeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class MeetingSummaryAssemblerTest {
+
+    @Autowired
+    private MeetingSummaryAssembler meetingSummaryAssembler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private LikeService likeService;
+
+    private UserEntity user;
+    List<Long> meetingIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserEntity.createUser("testUser", "password"));
+
+        for (int i = 1; i <= 3; i++) {
+            MeetingEntity meeting = meetingRepository.save(MeetingEntity.builder()
+                    .title("Test Meeting " + i)
+                    .creator(user)
+                    .isConfirmed(false)
+                    .build());
+
+            meetingIds.add(meeting.getId());
+        }
+    }
+
+    @Test
+    void toSummariesByIds_keepsRequestedOrder() {
+        List<Long> requestedIds = List.of(meetingIds.get(2), meetingIds.get(0), meetingIds.get(1));
+
+        List<MeetingSummaryResponseDto> result = meetingSummaryAssembler.toSummariesByIds(requestedIds, user.getUsername());
+
+        assertEquals(3, result.size());
+        assertEquals("Test Meeting 3", result.get(0).getTitle());
+        assertEquals("Test Meeting 1", result.get(1).getTitle());
+        assertEquals("Test Meeting 2", result.get(2).getTitle());
+    }
+
+    @Test
+    void toSummariesByIds_skipsMissingMeetings() {
+        List<MeetingSummaryResponseDto> result = meetingSummaryAssembler.toSummariesByIds(List.of(meetingIds.get(0), 9999L), user.getUsername());
+
+        assertEquals(1, result.size());
+        assertEquals(meetingIds.get(0), result.get(0).getId());
+    }
+
+    @Test
+    void toSummariesByIds_includesLikeInfo() {
+        likeService.createLike(user.getUsername(), meetingIds.get(0));
+
+        List<MeetingSummaryResponseDto> result = meetingSummaryAssembler.toSummariesByIds(meetingIds, user.getUsername());
+
+        assertEquals(1L, result.get(0).getLikeDto().getLikeCount());
+        assertTrue(result.get(0).getLikeDto().getIsLiked());
+        assertEquals(0L, result.get(1).getLikeDto().getLikeCount());
+        assertFalse(result.get(1).getLikeDto().getIsLiked());
+    }
+
+    @Test
+    void toSummariesByIds_whenAnonymousUser_doesNotIncludeIsLiked() {
+        List<MeetingSummaryResponseDto> result = meetingSummaryAssembler.toSummariesByIds(meetingIds, null);
+
+        assertTrue(result.stream().allMatch(summary -> summary.getLikeDto().getIsLiked() == null));
+    }
+
+    @Test
+    void toSummariesByIds_withEmptyIds_returnsEmptyList() {
+        assertTrue(meetingSummaryAssembler.toSummariesByIds(List.of(), user.getUsername()).isEmpty());
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.starhub.service.cache;
+
+import com.example.starhub.dto.response.MeetingResponseDto;
+import com.example.starhub.service.RedisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 캐시는 읽기 전용 트랜잭션에서만 동작하므로 테스트 트랜잭션 대신 읽기 전용 트랜잭션을 직접 엽니다.
+ */
+@SpringBootTest
+class MeetingDetailCacheTest {
+
+    private static final Long MEETING_ID = 987_654_321L;
+
+    @Autowired
+    private MeetingDetailCache meetingDetailCache;
+
+    @Autowired
+    private RedisService redisService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        meetingDetailCache.evict(MEETING_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meetingDetailCache.evict(MEETING_ID);
+        redisService.deleteValues("meeting:detail:version:" + MEETING_ID);
+    }
+
+    @Test
+    void get_onMiss_loadsOnceAndServesFromCache() {
+        CountingLoader loader = new CountingLoader("모임");
+
+        MeetingDetailSnapshot first = get(meetingDetailCache, loader);
+        MeetingDetailSnapshot second = get(meetingDetailCache, loader);
+
+        assertEquals(1, loader.count());
+        assertEquals("모임", first.postInfo().getTitle());
+        assertEquals("모임", second.postInfo().getTitle());
+    }
+
+    @Test
+    void get_afterEvict_reloads() {
+        get(meetingDetailCache, new CountingLoader("이전 모임"));
+
+        meetingDetailCache.evict(MEETING_ID);
+        CountingLoader loader = new CountingLoader("수정된 모임");
+        MeetingDetailSnapshot snapshot = get(meetingDetailCache, loader);
+
+        assertEquals(1, loader.count());
+        assertEquals("수정된 모임", snapshot.postInfo().getTitle());
+    }
+
+    @Test
+    void get_withoutReadOnlyTransaction_bypassesCache() {
+        CountingLoader loader = new CountingLoader("모임");
+
+        meetingDetailCache.get(MEETING_ID, loader);
+        meetingDetailCache.get(MEETING_ID, loader);
+
+        assertEquals(2, loader.count());
+    }
+
+    @Test
+    void get_evictedWhileLoading_doesNotServeStaleSnapshot() {
+        // 조회 도중 다른 트랜잭션이 커밋되어 무효화된 상황
+        get(meetingDetailCache, () -> {
+            meetingDetailCache.evict(MEETING_ID);
+            return snapshot("이전 모임");
+        });
+
+        CountingLoader loader = new CountingLoader("수정된 모임");
+        MeetingDetailSnapshot snapshot = get(meetingDetailCache, loader);
+
+        assertEquals(1, loader.count());
+        assertEquals("수정된 모임", snapshot.postInfo().getTitle());
+    }
+
+    @Test
+    void get_evictedWhileLoadingOnOtherInstance_doesNotServeStaleSnapshotFromRedis() {
+        MeetingDetailCache otherInstance = newInstance();
+
+        // 이 인스턴스가 조회하는 동안 다른 인스턴스에서 무효화된 뒤 이전 값을 Redis에 저장
+        get(meetingDetailCache, () -> {
+            otherInstance.evict(MEETING_ID);
+            return snapshot("이전 모임");
+        });
+
+        CountingLoader loader = new CountingLoader("수정된 모임");
+        MeetingDetailSnapshot snapshot = get(otherInstance, loader);
+
+        assertEquals(1, loader.count());
+        assertEquals("수정된 모임", snapshot.postInfo().getTitle());
+    }
+
+    @Test
+    void get_onOtherInstance_readsSnapshotFromRedis() {
+        get(meetingDetailCache, new CountingLoader("모임"));
+
+        CountingLoader loader = new CountingLoader("다시 조회한 모임");
+        MeetingDetailSnapshot snapshot = get(newInstance(), loader);
+
+        assertEquals(0, loader.count());
+        assertEquals("모임", snapshot.postInfo().getTitle());
+    }
+
+    private MeetingDetailSnapshot get(MeetingDetailCache cache, Supplier<MeetingDetailSnapshot> loader) {
+        return readOnlyTransaction.execute(status -> cache.get(MEETING_ID, loader));
+    }
+
+    private MeetingDetailCache newInstance() {
+        MeetingDetailCache cache = new MeetingDetailCache(redisService, objectMapper);
+        ReflectionTestUtils.setField(cache, "localMaxSize", 1000);
+        ReflectionTestUtils.setField(cache, "localTtlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "redisTtlSeconds", 600L);
+        return cache;
+    }
+
+    private static MeetingDetailSnapshot snapshot(String title) {
+        return new MeetingDetailSnapshot("creatorUser", MeetingResponseDto.builder()
+                .id(MEETING_ID)
+                .title(title)
+                .build());
+    }
+
+    private static class CountingLoader implements Supplier<MeetingDetailSnapshot> {
+
+        private final String title;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingLoader(String title) {
+            this.title = title;
+        }
+
+        @Override
+        public MeetingDetailSnapshot get() {
+            count.incrementAndGet();
+            return snapshot(title);
+        }
+
+        private int count() {
+            return count.get();
+        }
+    }
+}
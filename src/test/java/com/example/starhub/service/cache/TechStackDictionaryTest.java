@@ -0,0 +1,74 @@
+package com.example.starhub.service.cache;
+
+import com.example.starhub.entity.TechStackEntity;
+import com.example.starhub.entity.enums.TechCategory;
+import com.example.starhub.repository.TechStackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TechStackDictionaryTest {
+
+    private final TechStackRepository techStackRepository = mock(TechStackRepository.class);
+    private final TechStackDictionary techStackDictionary = new TechStackDictionary(techStackRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(techStackRepository.findAll()).thenReturn(List.of(
+                techStack(1L, "React", TechCategory.FRONTEND),
+                techStack(2L, "Spring", TechCategory.BACKEND)));
+        techStackDictionary.reload();
+    }
+
+    @Test
+    void getAll_withLoadedIds_readsSnapshotOnly() {
+        Map<Long, TechStackDictionary.TechStackEntry> result = techStackDictionary.getAll(List.of(1L, 2L));
+
+        assertEquals("React", result.get(1L).name());
+        assertEquals(TechCategory.BACKEND, result.get(2L).category());
+        verify(techStackRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void getAll_withMissingIds_fetchesOnlyMissingFromDatabase() {
+        when(techStackRepository.findAllById(List.of(3L, 4L)))
+                .thenReturn(List.of(techStack(3L, "GraphQL", TechCategory.OTHER)));
+
+        Map<Long, TechStackDictionary.TechStackEntry> result = techStackDictionary.getAll(List.of(1L, 3L, 4L));
+
+        assertEquals(2, result.size());
+        assertEquals("React", result.get(1L).name());
+        assertEquals("GraphQL", result.get(3L).name());
+        assertFalse(result.containsKey(4L));
+        verify(techStackRepository).findAllById(List.of(3L, 4L));
+    }
+
+    @Test
+    void reload_whenDatabaseFails_keepsPreviousSnapshot() {
+        when(techStackRepository.findAll()).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        techStackDictionary.reload();
+
+        assertTrue(techStackDictionary.isLoaded());
+        assertEquals(List.of(1L, 2L), techStackDictionary.getSelectable().stream()
+                .map(TechStackDictionary.TechStackEntry::id)
+                .toList());
+        assertEquals("Spring", techStackDictionary.getAll(List.of(2L)).get(2L).name());
+        verify(techStackRepository, never()).findAllById(any());
+    }
+
+    private TechStackEntity techStack(Long id, String name, TechCategory category) {
+        return TechStackEntity.builder()
+                .id(id)
+                .name(name)
+                .category(category)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.starhub.service.facet;
+
+import com.example.starhub.entity.enums.Duration;
+import com.example.starhub.entity.enums.RecruitmentType;
+import com.example.starhub.repository.projection.MeetingFacetRow;
+import com.example.starhub.repository.projection.MeetingTechStackLink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeetingFacetIndexTest {
+
+    private static final Long REACT = 1L;
+    private static final Long SPRING = 2L;
+
+    private final MeetingFacetIndex meetingFacetIndex = new MeetingFacetIndex();
+
+    @BeforeEach
+    void setUp() {
+        meetingFacetIndex.reload(
+                List.of(
+                        new MeetingFacetRow(1L, RecruitmentType.STUDY, Duration.ONE_MONTH, false),
+                        new MeetingFacetRow(2L, RecruitmentType.PROJECT, Duration.THREE_MONTHS, false),
+                        new MeetingFacetRow(3L, RecruitmentType.PROJECT, Duration.ONE_MONTH, true)),
+                List.of(
+                        new MeetingTechStackLink(1L, REACT),
+                        new MeetingTechStackLink(2L, REACT),
+                        new MeetingTechStackLink(2L, SPRING),
+                        new MeetingTechStackLink(3L, SPRING)));
+    }
+
+    @Test
+    void count_withoutCondition_countsAllMeetings() {
+        MeetingFacetCounts counts = meetingFacetIndex.count(null, null, null, null);
+
+        assertTrue(meetingFacetIndex.isLoaded());
+        assertEquals(3, counts.total());
+        assertEquals(2L, counts.techStacks().get(REACT));
+        assertEquals(2L, counts.techStacks().get(SPRING));
+        assertEquals(1L, counts.recruitmentTypes().get(RecruitmentType.STUDY));
+        assertEquals(2L, counts.durations().get(Duration.ONE_MONTH));
+        assertEquals(2, counts.open());
+        assertEquals(1, counts.confirmed());
+    }
+
+    @Test
+    void count_withCondition_excludesOwnFacetCondition() {
+        MeetingFacetCounts counts = meetingFacetIndex.count(null, null, false, List.of(REACT));
+
+        assertEquals(2, counts.total());
+        // 기술 스택 개수는 확정 여부 조건만 적용
+        assertEquals(2L, counts.techStacks().get(REACT));
+        assertEquals(1L, counts.techStacks().get(SPRING));
+        // 확정 여부 개수는 기술 스택 조건만 적용
+        assertEquals(2, counts.open());
+        assertEquals(0, counts.confirmed());
+    }
+
+    @Test
+    void put_replacesPreviousAttributes() {
+        meetingFacetIndex.put(new MeetingFacetRow(1L, RecruitmentType.STUDY, Duration.ONE_MONTH, true), List.of(SPRING));
+
+        MeetingFacetCounts counts = meetingFacetIndex.count(null, null, null, null);
+
+        assertEquals(1L, counts.techStacks().get(REACT));
+        assertEquals(3L, counts.techStacks().get(SPRING));
+        assertEquals(1, counts.open());
+        assertEquals(2, counts.confirmed());
+    }
+
+    @Test
+    void remove_dropsMeetingFromAllFacets() {
+        meetingFacetIndex.remove(2L);
+
+        MeetingFacetCounts counts = meetingFacetIndex.count(RecruitmentType.PROJECT, null, null, null);
+
+        assertEquals(1, counts.total());
+        assertNull(counts.techStacks().get(REACT));
+        assertEquals(1L, counts.techStacks().get(SPRING));
+        assertEquals(0L, counts.durations().get(Duration.THREE_MONTHS));
+    }
+}
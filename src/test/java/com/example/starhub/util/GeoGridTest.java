@@ -0,0 +1,76 @@
+package com.example.starhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoGridTest {
+
+    @Test
+    void cellOf_withoutCoordinate_returnsNull() {
+        assertNull(GeoGrid.cellOf(null, 126.9780));
+        assertNull(GeoGrid.cellOf(37.5665, null));
+    }
+
+    @Test
+    void cellOf_atBoundary_staysInsideGrid() {
+        assertEquals(0, GeoGrid.cellOf(-90.0, -180.0));
+        assertEquals(3600 * GeoGrid.COLUMNS - 1, GeoGrid.cellOf(90.0, 180.0));
+    }
+
+    @Test
+    void cellsWithin_containsCenterAndNeighbourCells() {
+        Integer center = GeoGrid.cellOf(37.5665, 126.9780);
+
+        List<Integer> cells = GeoGrid.cellsWithin(37.5665, 126.9780, 10_000);
+
+        assertTrue(cells.contains(center));
+        assertTrue(cells.contains(center + 1));
+        assertTrue(cells.contains(center + GeoGrid.COLUMNS));
+    }
+
+    @Test
+    void boundingBox_coversRadius() {
+        GeoGrid.BoundingBox box = GeoGrid.boundingBox(37.5665, 126.9780, 1000);
+
+        assertTrue(box.maxLatitude() - box.minLatitude() > 0.017);
+        assertTrue(box.maxLongitude() - box.minLongitude() > box.maxLatitude() - box.minLatitude());
+    }
+
+    @Test
+    void isWithinCellLimit_atMidLatitude_returnsTrue() {
+        assertTrue(GeoGrid.isWithinCellLimit(37.5665, 126.9780, 50_000));
+        assertTrue(GeoGrid.cellsWithin(37.5665, 126.9780, 50_000).size() <= GeoGrid.MAX_CELLS);
+    }
+
+    @Test
+    void isWithinCellLimit_atHighLatitude_returnsFalse() {
+        assertFalse(GeoGrid.isWithinCellLimit(80.0, 15.0, 50_000));
+        assertThrows(IllegalArgumentException.class, () -> GeoGrid.cellsWithin(80.0, 15.0, 50_000));
+    }
+
+    @Test
+    void rowRangeWithin_nearPole_coversWholeRowsAndStaysInsideGrid() {
+        assertFalse(GeoGrid.isWithinCellLimit(89.99, 0.0, 50_000));
+
+        GeoGrid.CellRange range = GeoGrid.rowRangeWithin(89.99, 0.0, 50_000);
+
+        Integer center = GeoGrid.cellOf(89.99, 0.0);
+        assertTrue(range.minCell() <= center && center <= range.maxCell());
+        assertEquals(0, range.minCell() % GeoGrid.COLUMNS);
+        assertEquals(GeoGrid.COLUMNS - 1, range.maxCell() % GeoGrid.COLUMNS);
+        assertEquals(3600 * GeoGrid.COLUMNS - 1, range.maxCell());
+        // 반경 안의 다른 경도 칸도 범위에 포함
+        assertTrue(range.minCell() <= GeoGrid.cellOf(89.9, 179.0) && GeoGrid.cellOf(89.9, 179.0) <= range.maxCell());
+    }
+
+    @Test
+    void rowRangeWithin_nearSouthPole_startsAtFirstRow() {
+        GeoGrid.CellRange range = GeoGrid.rowRangeWithin(-89.99, 0.0, 50_000);
+
+        assertEquals(0, range.minCell());
+        assertTrue(range.maxCell() >= GeoGrid.cellOf(-89.99, 0.0));
+    }
+}
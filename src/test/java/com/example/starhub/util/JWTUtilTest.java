@@ -0,0 +1,48 @@
+package com.example.starhub.util;
+
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JWTUtilTest {
+
+    private static final String SECRET = "starhub-test-secret-key-for-jwt-util-0123456789";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET, 100);
+
+    @Test
+    void parse_returnsAllClaims() {
+        String token = jwtUtil.createJwt("access", "testUser", "ROLE_USER", 60_000L);
+
+        JwtClaims claims = jwtUtil.parse(token);
+
+        assertEquals("access", claims.category());
+        assertEquals("testUser", claims.username());
+        assertEquals("ROLE_USER", claims.role());
+        assertFalse(claims.isExpired());
+    }
+
+    @Test
+    void parse_withSameToken_returnsCachedClaims() {
+        String token = jwtUtil.createJwt("access", "testUser", "ROLE_USER", 60_000L);
+
+        assertSame(jwtUtil.parse(token), jwtUtil.parse(token));
+    }
+
+    @Test
+    void isExpired_withExpiredToken_returnsTrue() {
+        String token = jwtUtil.createJwt("refresh", "testUser", "ROLE_USER", -1_000L);
+
+        assertTrue(jwtUtil.isExpired(token));
+        assertEquals("testUser", jwtUtil.getUsername(token));
+    }
+
+    @Test
+    void parse_withTokenSignedByOtherKey_shouldThrowSignatureException() {
+        JWTUtil otherJwtUtil = new JWTUtil("other-secret-key-for-jwt-util-test-0123456789", 100);
+        String token = otherJwtUtil.createJwt("access", "testUser", "ROLE_USER", 60_000L);
+
+        assertThrows(SignatureException.class, () -> jwtUtil.parse(token));
+    }
+}